@@ -0,0 +1,91 @@
+package com.jobproj.api.jobs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잡코리아 응답 파싱 비교 (./gradlew jmh --args='JobKoreaXmlParserBenchmark -prof gc')
+ * - streaming: JobKoreaXmlParser (StAX, 공고를 하나씩 넘기고 붙잡지 않음)
+ * - stringAndDom: 응답 전체를 String 으로 받은 뒤 DOM 으로 파싱 (공고 매핑은 하지 않은 하한)
+ * - gc.alloc.rate.norm(B/op) 은 둘 다 공고 수에 비례하지만, streaming 은 공고 1건씩만 살아 있고
+ *   stringAndDom 은 응답 전체 + DOM 트리를 한꺼번에 들고 있음 (최대 힙 차이는 --jvmArgs -Xmx 를 줄여 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobKoreaXmlParserBenchmark {
+
+    @Param({"1000", "20000"})
+    public int items;
+
+    private byte[] feed;
+
+    @Setup
+    public void setUp() {
+        feed = feed(items).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int streaming(Blackhole blackhole) throws Exception {
+        return JobKoreaXmlParser.parse(new ByteArrayInputStream(feed), 0, blackhole::consume);
+    }
+
+    @Benchmark
+    public int stringAndDom() throws Exception {
+        String body = new String(feed, StandardCharsets.UTF_8);
+        Document document = DocumentBuilderFactory.newInstance()
+            .newDocumentBuilder()
+            .parse(new InputSource(new StringReader(body)));
+        return document.getElementsByTagName("GI_No").getLength();
+    }
+
+    // 샘플 응답(src/test/resources/jobkorea/gi-list.xml)과 같은 형식의 공고 n건
+    private static String feed(int n) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<GI_List>\n");
+        xml.append("  <TotalCount>").append(n).append("</TotalCount>\n  <Items>\n");
+        for (int i = 0; i < n; i++) {
+            long giNo = 46_000_000L + i;
+            xml.append("""
+                    <Item>
+                      <GI_No>%d</GI_No>
+                      <GI_Subject><![CDATA[[잡코리아] Spring 백엔드 개발자 %d (경력 3년↑)]]></GI_Subject>
+                      <C_Name>잡코리아</C_Name>
+                      <AreaName>서울 강남구, 경기 성남시</AreaName>
+                      <AreaCode>I010,B150</AreaCode>
+                      <GI_Job_Type>1,4</GI_Job_Type>
+                      <GI_Part_No>10031</GI_Part_No>
+                      <GI_Career>3</GI_Career>
+                      <GI_Pay>2</GI_Pay>
+                      <GI_Pay_Term>4500,7000</GI_Pay_Term>
+                      <GI_Keyword>Spring, JPA,AWS</GI_Keyword>
+                      <GI_W_Date>20251103</GI_W_Date>
+                      <GI_E_Date>20251105</GI_E_Date>
+                      <GI_End_Date>20251203</GI_End_Date>
+                      <JK_URL>https://www.jobkorea.co.kr/Recruit/GI_Read/%d</JK_URL>
+                    </Item>
+                """.formatted(giNo, i, giNo));
+        }
+        return xml.append("  </Items>\n</GI_List>\n").toString();
+    }
+}
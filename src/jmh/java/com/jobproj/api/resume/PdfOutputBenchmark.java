@@ -0,0 +1,103 @@
+package com.jobproj.api.resume;
+
+import com.jobproj.api.resume.ResumePdfService.RenderedPdf;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PDF 응답 경로 비교 (./gradlew jmh --args='PdfOutputBenchmark -prof gc')
+ * - buffered: 예전 경로, 렌더러 출력을 ByteArrayOutputStream 에 모은 뒤 byte[] 로 응답
+ * - streamed: 현재 경로, 렌더러가 파일(ResumePdfCache)에 쓰고 응답은 파일 채널에서 transferTo
+ * - Flying Saucer 렌더링 비용은 두 경로가 같으므로 빼고, 렌더러가 청크 단위로 쓰는 출력만 흉내 냄
+ * - gc.alloc.rate.norm(B/op) 이 buffered 는 PDF 크기에 비례하고 streamed 는 크기와 무관해야 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PdfOutputBenchmark {
+
+  // 렌더러가 한 번에 쓰는 크기
+  private static final int CHUNK_SIZE = 8 * 1024;
+
+  @Param({"256", "4096", "32768"})
+  public int sizeKb;
+
+  private byte[] chunk;
+  private Path dir;
+  private ResumePdfCache cache;
+
+  @Setup
+  public void setUp() throws IOException {
+    chunk = new byte[CHUNK_SIZE];
+    new Random(42).nextBytes(chunk);
+    dir = Files.createTempDirectory("pdf-output-bench");
+    // 한도를 1바이트로 두어 캐시 적중 없이 매번 (이름 없는) 임시 파일에 쓰고 스트리밍
+    cache = new ResumePdfCache(dir.toString(), 1);
+    cache.init();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      for (Path file : files.toList()) {
+        Files.deleteIfExists(file);
+      }
+    }
+    Files.deleteIfExists(dir);
+  }
+
+  @Benchmark
+  public long buffered() throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    render(buffer);
+    byte[] pdf = buffer.toByteArray();
+    OutputStream.nullOutputStream().write(pdf);
+    return pdf.length;
+  }
+
+  @Benchmark
+  public long streamed() throws IOException {
+    FileChannel channel =
+        cache
+            .store(
+                1L,
+                1,
+                1L,
+                out -> {
+                  render(out);
+                  return true;
+                })
+            .orElseThrow();
+    RenderedPdf pdf = RenderedPdf.of(channel);
+    pdf.writeTo(OutputStream.nullOutputStream());
+    return pdf.size();
+  }
+
+  private void render(OutputStream out) throws IOException {
+    for (long written = 0; written < sizeKb * 1024L; written += CHUNK_SIZE) {
+      out.write(chunk);
+    }
+  }
+}
@@ -3,9 +3,11 @@ package com.jobproj.api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @EnableAsync //2233076 10주차 추가
+@EnableScheduling // 잡코리아 공고 주기 수집 (JobsService.refreshCatalog)
 @SpringBootApplication
 public class Application {
   public static void main(String[] args) {
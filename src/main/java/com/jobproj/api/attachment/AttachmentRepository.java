@@ -1,6 +1,7 @@
 package com.jobproj.api.attachment;
 
 import com.jobproj.api.attachment.AttachmentDto.*;
+import com.jobproj.api.resume.ResumeVersions;
 import java.sql.ResultSet;
 import java.util.*;
 import org.springframework.jdbc.core.namedparam.*;
@@ -43,6 +44,7 @@ public class AttachmentRepository {
             .addValue("key", r.storageKey())
             .addValue("pi", Boolean.TRUE.equals(r.isProfileImage()) ? 1 : 0);
     var kh = new GeneratedKeyHolder();
+    ResumeVersions.bump(jdbc, r.resumeId());
     jdbc.update(sql, ps, kh, new String[] {"attachment_id"});
     return Optional.ofNullable(kh.getKey()).map(Number::longValue).orElseThrow();
   }
@@ -54,6 +56,15 @@ public class AttachmentRepository {
     return jdbc.query(sql, Map.of("rid", resumeId), this::map);
   }
 
+  // 여러 이력서의 첨부를 한 번에 (이력서 상세 조회용)
+  public List<Response> listByResumeIds(Collection<Long> resumeIds) {
+    if (resumeIds.isEmpty()) return List.of();
+    var sql =
+        "SELECT * FROM jobproject_attachment WHERE resume_id IN (:rids) "
+            + "ORDER BY resume_id, is_profile_image DESC, attachment_id DESC";
+    return jdbc.query(sql, Map.of("rids", resumeIds), this::map);
+  }
+
   public Optional<Response> findById(long id) {
     var sql = "SELECT * FROM jobproject_attachment WHERE attachment_id=:id";
     var list = jdbc.query(sql, Map.of("id", id), this::map);
@@ -61,12 +72,14 @@ public class AttachmentRepository {
   }
 
   public int delete(long id) {
+    ResumeVersions.bumpOwnerOf(jdbc, "jobproject_attachment", "attachment_id", id);
     return jdbc.update(
         "DELETE FROM jobproject_attachment WHERE attachment_id=:id", Map.of("id", id));
   }
 
   public int setProfile(long resumeId, long attachmentId) {
     // 프로필 단일성: 모두 0 -> 대상만 1
+    ResumeVersions.bump(jdbc, resumeId);
     jdbc.update(
         """
         UPDATE jobproject_attachment
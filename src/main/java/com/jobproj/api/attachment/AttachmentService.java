@@ -2,12 +2,14 @@ package com.jobproj.api.attachment;
 
 import com.jobproj.api.attachment.AttachmentDto.CreateRequest;
 import com.jobproj.api.attachment.AttachmentDto.Response;
+import com.jobproj.api.resume.ResumeChangedEvent;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
@@ -21,9 +23,11 @@ import org.springframework.web.multipart.MultipartFile;
 public class AttachmentService {
 
   private final AttachmentRepository repo;
+  private final ApplicationEventPublisher events;
 
-  public AttachmentService(AttachmentRepository repo) {
+  public AttachmentService(AttachmentRepository repo, ApplicationEventPublisher events) {
     this.repo = repo;
+    this.events = events;
   }
 
   private static final Set<String> ALLOWED_EXT = Set.of("png", "jpg", "jpeg", "pdf");
@@ -44,8 +48,11 @@ public class AttachmentService {
   }
 
   /** 메타데이터 직접 생성 */
+  @Transactional
   public long create(CreateRequest r) {
-    return repo.create(r);
+    long id = repo.create(r);
+    changed(r.resumeId());
+    return id;
   }
 
   /** 실제 파일 업로드 + 메타 등록 */
@@ -108,17 +115,21 @@ public class AttachmentService {
             storageKey,
             false);
 
-    return repo.create(meta);
+    long id = repo.create(meta);
+    changed(meta.resumeId());
+    return id;
   }
 
   public List<Response> listByResume(long resumeId) {
     return repo.listByResume(resumeId);
   }
 
+  @Transactional
   public boolean delete(long id) {
     var metaOpt = repo.findById(id);
     int rows = repo.delete(id);
     if (rows > 0 && metaOpt.isPresent()) {
+      changed(metaOpt.get().resumeId());
       try {
         Path p = Paths.get("uploads").resolve(metaOpt.get().storageKey());
         Files.deleteIfExists(p);
@@ -134,7 +145,14 @@ public class AttachmentService {
   /** 프로필 이미지 토글은 트랜잭션으로 감싸 안전하게 */
   @Transactional
   public boolean setProfile(long resumeId, long attachmentId) {
-    return repo.setProfile(resumeId, attachmentId) > 0;
+    boolean updated = repo.setProfile(resumeId, attachmentId) > 0;
+    if (updated) changed(resumeId);
+    return updated;
+  }
+
+  // 소속 이력서 변경 알림 (파생 캐시 무효화)
+  private void changed(Long resumeId) {
+    if (resumeId != null) events.publishEvent(ResumeChangedEvent.of(resumeId));
   }
 
   public DownloadPayload prepareDownload(long attachmentId) {
@@ -0,0 +1,32 @@
+package com.jobproj.api.common;
+
+// 커서(키셋) 페이지 요청: page 대신 이전 응답의 nextCursor 로 이어서 조회
+public class CursorPageRequest {
+  private final String cursor; // null 이면 첫 페이지
+  private final int size; // 1..N
+  private final String sort; // e.g. "created_at,desc"
+  private final boolean withTotal; // true 일 때만 COUNT(*) 실행
+
+  public CursorPageRequest(String cursor, Integer size, String sort, Boolean withTotal) {
+    this.cursor = (cursor == null || cursor.isBlank()) ? null : cursor;
+    this.size = (size == null || size <= 0) ? 10 : Math.min(size, 100);
+    this.sort = (sort == null || sort.isBlank()) ? "created_at,desc" : sort;
+    this.withTotal = Boolean.TRUE.equals(withTotal);
+  }
+
+  public String getCursor() {
+    return cursor;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public String getSort() {
+    return sort;
+  }
+
+  public boolean isWithTotal() {
+    return withTotal;
+  }
+}
@@ -0,0 +1,37 @@
+package com.jobproj.api.common;
+
+import java.util.List;
+
+public class CursorPageResponse<T> {
+  private final List<T> content;
+  private final int size;
+  private final String nextCursor; // null 이면 마지막 페이지
+  private final Long totalElements; // withTotal=true 로 요청했을 때만 값이 있음
+
+  public CursorPageResponse(List<T> content, int size, String nextCursor, Long totalElements) {
+    this.content = content;
+    this.size = size;
+    this.nextCursor = nextCursor;
+    this.totalElements = totalElements;
+  }
+
+  public List<T> getContent() {
+    return content;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public boolean isHasNext() {
+    return nextCursor != null;
+  }
+
+  public Long getTotalElements() {
+    return totalElements;
+  }
+}
@@ -0,0 +1,27 @@
+package com.jobproj.api.common;
+
+/** ETag 생성 / If-None-Match 비교 (약한 비교: W/ 접두어 무시) */
+public final class ETags {
+
+  private ETags() {}
+
+  /** 약한 ETag (W/"value") - 같은 내용이면 압축 등 표현이 달라도 같은 태그 */
+  public static String weak(String value) {
+    return "W/\"" + value + "\"";
+  }
+
+  /** If-None-Match 헤더(쉼표 구분 목록 또는 *)에 etag 가 있으면 true */
+  public static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) return false;
+    String target = opaque(etag);
+    for (String candidate : ifNoneMatch.split(",")) {
+      String c = candidate.strip();
+      if (c.equals("*") || opaque(c).equals(target)) return true;
+    }
+    return false;
+  }
+
+  private static String opaque(String tag) {
+    return tag.startsWith("W/") ? tag.substring(2) : tag;
+  }
+}
@@ -23,4 +23,29 @@ public class JdbcUtils {
     }
     return " AND (" + sj + ") ";
   }
+
+  // FULLTEXT 검색 조건 (파라미터 :ftkw 에는 booleanPhrase(keyword) 를 바인딩)
+  public static String whereMatch(String keyword, String... columns) {
+    if (keyword == null || keyword.isBlank() || columns.length == 0) return "";
+    return " AND " + match(columns) + " ";
+  }
+
+  // 관련도 점수 식 (WHERE 와 같은 식을 ORDER BY 에 쓰면 인덱스 검색 결과를 재사용)
+  public static String match(String... columns) {
+    return "MATCH(" + String.join(", ", columns) + ") AGAINST (:ftkw IN BOOLEAN MODE)";
+  }
+
+  // 검색어 전체를 하나의 구문으로 (BOOLEAN MODE 연산자 문자는 제거) - LIKE '%kw%' 와 같은 연속 일치
+  public static String booleanPhrase(String keyword) {
+    return '"' + booleanTerm(keyword) + '"';
+  }
+
+  // booleanPhrase 안에 들어가는 실제 검색어 (앞뒤 공백, BOOLEAN MODE 연산자 문자 제거)
+  public static String booleanTerm(String keyword) {
+    StringBuilder sb = new StringBuilder(keyword.length());
+    for (char c : keyword.strip().toCharArray()) {
+      if ("\"+-<>()~*@".indexOf(c) < 0) sb.append(c);
+    }
+    return sb.toString().strip();
+  }
 }
@@ -0,0 +1,174 @@
+package com.jobproj.api.common;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * 키셋(커서) 페이지네이션 SQL 조각 생성
+ * - 정렬: JdbcUtils.orderBy 와 같은 "field,asc|desc" 형식 + 화이트리스트, 동률은 id 로 정렬
+ * - 커서: 직전 페이지 마지막 행의 (정렬 값, id) 를 base64url 로 감싼 불투명 문자열
+ * - OFFSET 없이 커서 위치부터 읽으므로 (조건 컬럼, 정렬 컬럼) 인덱스가 있으면 페이지 깊이와 무관하게 일정한 비용
+ * - 정렬 컬럼은 NOT NULL 이어야 함 (NULL 은 비교 조건에서 빠짐)
+ */
+public class Keyset {
+
+  private final String sortKey;
+  private final String column;
+  private final boolean asc;
+  private final String idColumn;
+  private final int size;
+  private final Object afterValue;
+  private final Long afterId;
+
+  // 조회 중 size 번째 행(= 이번 페이지 마지막 행)의 정렬 값
+  private Object lastValue;
+  private long lastId;
+
+  private Keyset(
+      String sortKey,
+      String column,
+      boolean asc,
+      String idColumn,
+      int size,
+      Object afterValue,
+      Long afterId) {
+    this.sortKey = sortKey;
+    this.column = column;
+    this.asc = asc;
+    this.idColumn = idColumn;
+    this.size = size;
+    this.afterValue = afterValue;
+    this.afterId = afterId;
+  }
+
+  // 정렬 키가 화이트리스트에 없거나 커서가 잘못되면 IllegalArgumentException -> 400
+  public static Keyset of(CursorPageRequest pr, Map<String, String> whitelist, String idColumn) {
+    String[] parts = pr.getSort().split(",");
+    String column = whitelist.get(parts[0]);
+    if (column == null) {
+      throw new IllegalArgumentException("cursor 페이지에서 지원하지 않는 정렬입니다: " + parts[0]);
+    }
+    boolean asc = parts.length > 1 && "asc".equalsIgnoreCase(parts[1]);
+    String sortKey = parts[0] + "," + (asc ? "asc" : "desc");
+
+    if (pr.getCursor() == null) {
+      return new Keyset(sortKey, column, asc, idColumn, pr.getSize(), null, null);
+    }
+    String[] c = decode(pr.getCursor());
+    if (!sortKey.equals(c[0])) {
+      throw new IllegalArgumentException("cursor 와 sort 가 일치하지 않습니다.");
+    }
+    try {
+      return new Keyset(
+          sortKey, column, asc, idColumn, pr.getSize(), parseValue(c[2], c[3]), Long.parseLong(c[1]));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다.");
+    }
+  }
+
+  // WHERE 뒤에 붙일 커서 이후 조건 (첫 페이지면 빈 문자열)
+  public String where() {
+    if (afterId == null) return "";
+    String op = asc ? ">" : "<";
+    return " AND ("
+        + column + " " + op + " :kv OR ("
+        + column + " = :kv AND " + idColumn + " " + op + " :kid)) ";
+  }
+
+  public String orderBy() {
+    String dir = asc ? "ASC" : "DESC";
+    return " ORDER BY " + column + " " + dir + ", " + idColumn + " " + dir + " ";
+  }
+
+  // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 읽음
+  public String limit() {
+    return " LIMIT :klimit";
+  }
+
+  public MapSqlParameterSource bind(MapSqlParameterSource ps) {
+    ps.addValue("klimit", size + 1);
+    if (afterId != null) {
+      ps.addValue("kv", afterValue).addValue("kid", afterId);
+    }
+    return ps;
+  }
+
+  // 행을 매핑하면서 이번 페이지 마지막 행의 (정렬 값, id) 를 기억
+  public <T> RowMapper<T> mapper(RowMapper<T> delegate) {
+    return (rs, i) -> {
+      if (i == size - 1) {
+        lastValue = rs.getObject(column);
+        lastId = rs.getLong(idColumn);
+      }
+      return delegate.mapRow(rs, i);
+    };
+  }
+
+  // withTotal 이 false 면 COUNT 를 실행하지 않음
+  public <T> CursorPageResponse<T> page(List<T> rows, LongSupplier total, boolean withTotal) {
+    Long totalElements = withTotal ? total.getAsLong() : null;
+    if (rows.size() <= size) {
+      return new CursorPageResponse<>(rows, size, null, totalElements);
+    }
+    List<T> content = new ArrayList<>(rows.subList(0, size));
+    return new CursorPageResponse<>(content, size, encode(), totalElements);
+  }
+
+  private String encode() {
+    String type;
+    String value;
+    if (lastValue instanceof Timestamp ts) {
+      type = "t";
+      value = ts.toLocalDateTime().toString();
+    } else if (lastValue instanceof LocalDateTime ldt) {
+      type = "t";
+      value = ldt.toString();
+    } else if (lastValue instanceof Date d) {
+      type = "d";
+      value = d.toLocalDate().toString();
+    } else if (lastValue instanceof LocalDate ld) {
+      type = "d";
+      value = ld.toString();
+    } else if (lastValue instanceof Number n) {
+      type = "n";
+      value = String.valueOf(n.longValue());
+    } else {
+      type = "s";
+      value = String.valueOf(lastValue);
+    }
+    // 값은 문자열이라 '|' 를 포함할 수 있으므로 마지막에 둠
+    String raw = sortKey + "|" + lastId + "|" + type + "|" + value;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String[] decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", 4);
+      if (parts.length == 4) return parts;
+    } catch (IllegalArgumentException e) {
+      // 아래에서 공통 메시지로 처리
+    }
+    throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다.");
+  }
+
+  private static Object parseValue(String type, String value) {
+    return switch (type) {
+      case "t" -> Timestamp.valueOf(LocalDateTime.parse(value));
+      case "d" -> Date.valueOf(LocalDate.parse(value));
+      case "n" -> Long.parseLong(value);
+      case "s" -> value;
+      default -> throw new IllegalArgumentException(type);
+    };
+  }
+}
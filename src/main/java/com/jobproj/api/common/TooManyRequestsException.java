@@ -0,0 +1,15 @@
+package com.jobproj.api.common;
+
+/** 처리 한도 초과 (대기열이 가득 참 등) -> 429 + Retry-After */
+public class TooManyRequestsException extends RuntimeException {
+  private final long retryAfterSeconds;
+
+  public TooManyRequestsException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -2,6 +2,7 @@ package com.jobproj.api.config;
 
 import com.jobproj.api.common.ApiResponse;
 import com.jobproj.api.common.OwnerMismatchException;
+import com.jobproj.api.common.TooManyRequestsException;
 import jakarta.servlet.ServletException;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,7 @@ import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -95,6 +97,15 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /** 처리 한도 초과(대기열 가득 참) → 429 + Retry-After */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException e) {
+        log.warn("[429] TooManyRequests: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.fail("TOO_MANY_REQUESTS", e.getMessage()));
+    }
+
     /** (수정) 리소스 미존재 → 404 */
     @ExceptionHandler({
             NoSuchElementException.class,        // Optional.get() 등
@@ -0,0 +1,26 @@
+package com.jobproj.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API(Gemini, 잡코리아) 호출용 공용 HTTP 클라이언트
+ * - JDK HttpClient: 커넥션 풀 내장, sendAsync 로 요청 스레드를 점유하지 않음
+ * - 연결 타임아웃은 여기서, 응답 타임아웃은 각 서비스가 요청 단위로 지정
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public HttpClient outboundHttpClient(
+            @Value("${http.client.connect-timeout-ms:3000}") long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.jobproj.api.ctrl;
 
 import com.jobproj.api.dto.JobPostingDto;
+import com.jobproj.api.dto.JobPostingPage;
 import com.jobproj.api.repo.JobPostingRepo;
 import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,6 +10,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class JobPostingCtrl {
+  private static final int MAX_LIMIT = 100;
+
   private final JobPostingRepo jobs;
 
   public JobPostingCtrl(JobPostingRepo jobs) {
@@ -18,6 +21,18 @@ public class JobPostingCtrl {
   @GetMapping("/job-postings/active")
   public List<JobPostingDto> listActive(
       @RequestParam(defaultValue = "10") int limit, @RequestParam(defaultValue = "0") int offset) {
-    return jobs.findActive(limit, offset);
+    return jobs.findActive(clamp(limit), Math.max(0, offset));
+  }
+
+  // 무한 스크롤용 키셋 페이지네이션: 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor 를 그대로 전달
+  @GetMapping("/job-postings/active/scroll")
+  public JobPostingPage scrollActive(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int limit) {
+    return jobs.findActiveAfter(cursor, clamp(limit));
+  }
+
+  private static int clamp(int limit) {
+    return Math.max(1, Math.min(limit, MAX_LIMIT));
   }
 }
@@ -0,0 +1,26 @@
+package com.jobproj.api.dto;
+
+import java.util.List;
+
+// 키셋(커서) 페이지 응답: nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 이어서 조회 (null 이면 마지막 페이지)
+public class JobPostingPage {
+  private final List<JobPostingDto> content;
+  private final String nextCursor;
+
+  public JobPostingPage(List<JobPostingDto> content, String nextCursor) {
+    this.content = content;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<JobPostingDto> getContent() {
+    return content;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public boolean isHasNext() {
+    return nextCursor != null;
+  }
+}
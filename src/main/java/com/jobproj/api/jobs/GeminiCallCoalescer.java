@@ -0,0 +1,73 @@
+package com.jobproj.api.jobs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 호출 single-flight
+ * - 같은 프롬프트 지문(fingerprint)으로 동시에 들어온 호출은 HTTP 를 한 번만 보내고
+ *   나머지 호출자는 같은 future 결과를 기다린다.
+ * - 호출이 끝나면 지문을 지우므로, 이후 요청은 새로 호출된다(결과 재사용은 MatchResultCache 담당).
+ * - /actuator/metrics/gemini.api.calls (mode=leader|coalesced), gemini.api.inflight
+ */
+@Component
+public class GeminiCallCoalescer {
+
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderCalls;
+    private final Counter coalescedCalls;
+
+    public GeminiCallCoalescer(MeterRegistry meterRegistry) {
+        this.leaderCalls = meterRegistry.counter("gemini.api.calls", "mode", "leader");
+        this.coalescedCalls = meterRegistry.counter("gemini.api.calls", "mode", "coalesced");
+        meterRegistry.gauge("gemini.api.inflight", Tags.empty(), inFlight, ConcurrentMap::size);
+    }
+
+    /**
+     * @param fingerprint 프롬프트 지문 (MatchKeys.sha256(prompt))
+     * @param call        실제 호출 (첫 호출자만 실행)
+     */
+    public CompletableFuture<String> execute(String fingerprint, Supplier<CompletableFuture<String>> call) {
+        CompletableFuture<String> promise = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(fingerprint, promise);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return existing;
+        }
+
+        leaderCalls.increment();
+        CompletableFuture<String> source;
+        try {
+            source = call.get();
+        } catch (RuntimeException e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+
+        source.whenComplete((response, error) -> {
+            // 완료 전에 먼저 제거해야 뒤늦게 온 요청이 끝난 future 에 붙지 않는다
+            inFlight.remove(fingerprint, promise);
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(response);
+            }
+        });
+        return promise;
+    }
+
+    public long getCoalescedCount() {
+        return (long) coalescedCalls.count();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
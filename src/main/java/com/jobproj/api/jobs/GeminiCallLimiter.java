@@ -0,0 +1,131 @@
+package com.jobproj.api.jobs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 동시 호출 수 제한
+ * - 배치 청크를 병렬로 보내더라도 동시에 나가는 HTTP 호출은 max-concurrency 개까지만 허용
+ * - 나머지는 대기열에 넣었다가 앞선 호출이 끝나면 이어서 보낸다 (스레드를 잡고 기다리지 않음)
+ * - 대기열에서 꺼낸 호출은 전용 스레드(gemini-dispatch)에서 시작
+ *   -> 앞선 호출을 완료한 스레드(HTTP 응답 스레드)가 다음 호출을 직접 이어 부르지 않으므로
+ *      바로 끝나는 호출이 줄지어 있어도 호출 스택이 깊어지지 않음
+ * - 대기열은 max-queued 개까지만, 넘치면 RejectedExecutionException 으로 바로 실패
+ *   (호출부는 기본 매칭/로컬 점수로 대체)
+ * - /actuator/metrics/gemini.api.active, gemini.api.queued, gemini.api.rejected
+ */
+@Component
+public class GeminiCallLimiter {
+
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Call<?>> waiting = new ConcurrentLinkedQueue<>();
+    private final ThreadPoolExecutor dispatcher;
+    private final Counter rejected;
+
+    public GeminiCallLimiter(
+        MeterRegistry meterRegistry,
+        @Value("${gemini.api.max-concurrency:4}") int maxConcurrency,
+        @Value("${gemini.api.max-queued:256}") int maxQueued
+    ) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.maxQueued = Math.max(1, maxQueued);
+        // 한 번에 넘겨받는 작업은 많아야 max-concurrency 개 (자리를 얻은 호출만 넘김)
+        this.dispatcher = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+                Thread t = new Thread(r, "gemini-dispatch");
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry.gauge("gemini.api.active", Tags.empty(), active, AtomicInteger::get);
+        meterRegistry.gauge("gemini.api.queued", Tags.empty(), queued, AtomicInteger::get);
+        this.rejected = meterRegistry.counter("gemini.api.rejected");
+    }
+
+    /**
+     * 허용 개수 안이면 바로 호출, 아니면 대기열에 넣고 자리가 나면 호출한다.
+     * 대기열이 가득 차 있으면 RejectedExecutionException 으로 실패한 future 를 돌려준다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return CompletableFuture.failedFuture(
+                new RejectedExecutionException("Gemini 호출 대기열이 가득 참 (max-queued=" + maxQueued + ")"));
+        }
+        CompletableFuture<T> promise = new CompletableFuture<>();
+        waiting.add(new Call<>(call, promise));
+        drain();
+        return promise;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private <T> void start(Call<T> next) {
+        CompletableFuture<T> source;
+        try {
+            source = next.call().get();
+        } catch (RuntimeException e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+        source.whenComplete((value, error) -> {
+            active.decrementAndGet();
+            drain();
+            if (error != null) {
+                next.promise().completeExceptionally(error);
+            } else {
+                next.promise().complete(value);
+            }
+        });
+    }
+
+    // 자리가 있는 만큼 대기열에서 꺼내 dispatcher 에 넘김 (여기서 직접 호출하지 않음)
+    private void drain() {
+        while (!waiting.isEmpty()) {
+            int current = active.get();
+            if (current >= maxConcurrency) {
+                return;
+            }
+            if (!active.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Call<?> next = waiting.poll();
+            if (next == null) {
+                active.decrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                dispatcher.execute(() -> start(next));
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                active.decrementAndGet();
+                next.promise().completeExceptionally(e);
+            }
+        }
+    }
+
+    private record Call<T>(Supplier<CompletableFuture<T>> call, CompletableFuture<T> promise) {}
+}
@@ -2,17 +2,24 @@ package com.jobproj.api.jobs;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
 
 /**
  * 2233076 13주차 추가
@@ -20,10 +27,16 @@ import java.util.*;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class GeminiMatchingService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final MatchResultCache matchCache;
+    private final GeminiCallCoalescer callCoalescer;
+    private final GeminiCallLimiter callLimiter;
+    private final MeterRegistry meterRegistry;
+    private final LocalMatchEngine localMatchEngine;
 
     @Value("${gemini.api.key:}")
     private String apiKey;
@@ -31,48 +44,202 @@ public class GeminiMatchingService {
     @Value("${gemini.api.url}")
     private String apiUrl;
 
+    @Value("${gemini.api.read-timeout-ms:15000}")
+    private long readTimeoutMs;
+
+    @Value("${gemini.batch.chunk-size:10}")
+    private int batchChunkSize;
+
+    @Value("${gemini.batch.chunk-retries:1}")
+    private int batchChunkRetries;
+
+    public boolean isApiConfigured() {
+        return apiKey != null && !apiKey.isBlank();
+    }
+
+    /**
+     * 로컬 캐시에 이미 있는 매칭 결과 (없으면 null)
+     */
+    public MatchResult findCached(ResumeInfo resumeInfo, JobDto job) {
+        return isApiConfigured() ? matchCache.peekLocal(MatchKeys.of(resumeInfo, job)) : null;
+    }
+
     /**
      * 2233076 13주차 개선: 종합 이력서 정보를 포함한 매칭
      */
     public MatchResult calculateMatchScore(ResumeInfo resumeInfo, JobDto job) {
+        return calculateMatchScoreAsync(resumeInfo, job).join();
+    }
+
+    /**
+     * 비동기 매칭 - 요청 스레드를 붙잡지 않고 Gemini 응답 시 완료된다.
+     * 실패 시에도 예외 대신 기본 매칭 결과로 완료된다.
+     */
+    public CompletableFuture<MatchResult> calculateMatchScoreAsync(ResumeInfo resumeInfo, JobDto job) {
         // API 키가 없으면 기본 매칭 사용
-        if (apiKey == null || apiKey.isBlank()) {
+        if (!isApiConfigured()) {
             log.warn("Gemini API 키가 없습니다. 기본 매칭을 사용합니다.");
-            return simpleMatch(resumeInfo, job);
+            return CompletableFuture.completedFuture(simpleMatch(resumeInfo, job));
         }
 
-        try {
-            String prompt = buildPrompt(resumeInfo, job);
-            String response = callGeminiApi(prompt);
-            return parseGeminiResponse(response);
-        } catch (Exception e) {
-            log.error("Gemini API 호출 실패, 기본 매칭으로 대체", e);
-            return simpleMatch(resumeInfo, job);
+        // 같은 이력서 + 같은 공고 조합이면 캐시된 결과 재사용
+        String cacheKey = MatchKeys.of(resumeInfo, job);
+        MatchResult cached = matchCache.get(cacheKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+
+        String prompt = buildPrompt(resumeInfo, job);
+        return callGeminiShared(prompt)
+            .thenApply(response -> {
+                // 검증을 통과한 결과만 캐시 (실패하면 아래에서 기본 매칭으로 대체, 캐시 안 함)
+                MatchResult result = unchecked(() -> parseGeminiResponse(response));
+                matchCache.put(cacheKey, result);
+                return result;
+            })
+            .exceptionally(e -> {
+                log.error("Gemini API 호출 실패, 기본 매칭으로 대체", e);
+                return simpleMatch(resumeInfo, job);
+            });
     }
 
     /**
      * 2233076 13주차 개선: 배치 처리 (API 호출 최소화)
      */
     public List<MatchResult> calculateMatchScoreBatch(ResumeInfo resumeInfo, List<JobDto> jobs) {
+        return calculateMatchScoreBatchAsync(resumeInfo, jobs).join();
+    }
+
+    /**
+     * 비동기 배치 매칭 - 결과 순서는 입력 jobs 순서와 같다.
+     */
+    public CompletableFuture<List<MatchResult>> calculateMatchScoreBatchAsync(
+        ResumeInfo resumeInfo, List<JobDto> jobs
+    ) {
+        return calculateMatchScoreBatchAsync(resumeInfo, jobs, (index, result) -> {});
+    }
+
+    /**
+     * 비동기 배치 매칭 + 진행 콜백
+     * - 공고별 최종 결과가 정해질 때마다(캐시 적중, 청크 응답, 기본 매칭 대체) onResult(입력 인덱스, 결과) 호출
+     * - 콜백은 Gemini 응답 스레드에서 불리므로 오래 걸리는 작업을 하지 말 것
+     */
+    public CompletableFuture<List<MatchResult>> calculateMatchScoreBatchAsync(
+        ResumeInfo resumeInfo, List<JobDto> jobs, BiConsumer<Integer, MatchResult> onResult
+    ) {
+        return batchAsync(resumeInfo, jobs, onResult, true);
+    }
+
+    /**
+     * Gemini 점수만 받는 비동기 배치 매칭 (추천 파이프라인 재평가용)
+     * - 캐시 또는 Gemini 응답으로 점수를 얻지 못한 공고는 null (기본 매칭으로 채우지 않음)
+     *   -> 호출부가 로컬 점수와 Gemini 점수를 섞지 않고 출처를 구분할 수 있음
+     */
+    public CompletableFuture<List<MatchResult>> scoreWithGeminiAsync(ResumeInfo resumeInfo, List<JobDto> jobs) {
+        return batchAsync(resumeInfo, jobs, (index, result) -> {}, false);
+    }
+
+    private CompletableFuture<List<MatchResult>> batchAsync(
+        ResumeInfo resumeInfo, List<JobDto> jobs, BiConsumer<Integer, MatchResult> onResult,
+        boolean fillWithLocal
+    ) {
         // API 키가 없으면 기본 매칭 사용
-        if (apiKey == null || apiKey.isBlank()) {
+        if (!isApiConfigured()) {
+            if (!fillWithLocal) {
+                return CompletableFuture.completedFuture(new ArrayList<>(Collections.nCopies(jobs.size(), null)));
+            }
             log.warn("Gemini API 키가 없습니다. 기본 매칭을 사용합니다.");
-            return jobs.stream()
-                .map(job -> simpleMatch(resumeInfo, job))
-                .collect(java.util.stream.Collectors.toList());
+            List<MatchResult> results = new ArrayList<>(jobs.size());
+            for (int i = 0; i < jobs.size(); i++) {
+                results.add(simpleMatch(resumeInfo, jobs.get(i)));
+                onResult.accept(i, results.get(i));
+            }
+            return CompletableFuture.completedFuture(results);
         }
 
-        try {
-            String prompt = buildBatchPrompt(resumeInfo, jobs);
-            String response = callGeminiApi(prompt);
-            return parseBatchGeminiResponse(response, jobs);
-        } catch (Exception e) {
-            log.error("Gemini API 배치 호출 실패, 기본 매칭으로 대체", e);
-            return jobs.stream()
-                .map(job -> simpleMatch(resumeInfo, job))
-                .collect(java.util.stream.Collectors.toList());
+        // 캐시에 있는 공고는 바로 채우고, 없는 공고만 모아서 Gemini 호출
+        List<MatchResult> results = new ArrayList<>(Collections.nCopies(jobs.size(), null));
+        List<String> missKeys = new ArrayList<>();
+        List<Integer> missIndexes = new ArrayList<>();
+        List<JobDto> missJobs = new ArrayList<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            String cacheKey = MatchKeys.of(resumeInfo, jobs.get(i));
+            MatchResult cached = matchCache.get(cacheKey);
+            if (cached != null) {
+                results.set(i, cached);
+                onResult.accept(i, cached);
+            } else {
+                missKeys.add(cacheKey);
+                missIndexes.add(i);
+                missJobs.add(jobs.get(i));
+            }
         }
+        if (missJobs.isEmpty()) {
+            return CompletableFuture.completedFuture(results);
+        }
+
+        // chunk-size 단위로 나눠 병렬 호출 (동시 호출 수는 GeminiCallLimiter 가 제한)
+        int chunkSize = Math.max(1, batchChunkSize);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < missJobs.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, missJobs.size());
+            chunks.add(scoreChunk(resumeInfo, missJobs.subList(from, to),
+                missIndexes.subList(from, to), missKeys.subList(from, to), results, onResult, 0));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+            .thenApply(done -> {
+                if (!fillWithLocal) {
+                    return results;
+                }
+                // 응답에서 빠진 공고(또는 실패한 청크)는 기본 매칭으로 채움
+                for (int idx : missIndexes) {
+                    if (results.get(idx) == null) {
+                        results.set(idx, simpleMatch(resumeInfo, jobs.get(idx)));
+                        onResult.accept(idx, results.get(idx));
+                    }
+                }
+                return results;
+            });
+    }
+
+    /**
+     * 배치 청크 하나를 Gemini 로 평가해 results 의 해당 위치에 채운다.
+     * 실패하면 chunk-retries 만큼 다시 시도하고, 그래도 실패하면 비워 둔다(호출부에서 기본 매칭으로 대체).
+     */
+    private CompletableFuture<Void> scoreChunk(
+        ResumeInfo resumeInfo, List<JobDto> chunk, List<Integer> indexes,
+        List<String> cacheKeys, List<MatchResult> results,
+        BiConsumer<Integer, MatchResult> onResult, int attempt
+    ) {
+        String prompt = buildBatchPrompt(resumeInfo, chunk);
+        return callGeminiShared(prompt)
+            .thenApply(response -> unchecked(() -> parseBatchGeminiResponse(response, chunk)))
+            .handle((parsed, error) -> {
+                if (error == null) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        MatchResult result = parsed.get(i);
+                        if (result != null) {
+                            results.set(indexes.get(i), result);
+                            matchCache.put(cacheKeys.get(i), result);
+                            onResult.accept(indexes.get(i), result);
+                        }
+                    }
+                    meterRegistry.counter("gemini.batch.chunks", "result", "ok").increment();
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                // 대기열이 가득 차 거절된 청크는 다시 넣지 않고 바로 기본 매칭으로 대체
+                boolean rejected = unwrap(error) instanceof RejectedExecutionException;
+                if (!rejected && attempt < batchChunkRetries) {
+                    log.warn("Gemini 배치 청크 실패, 재시도 {}/{}: {}", attempt + 1, batchChunkRetries, error.getMessage());
+                    meterRegistry.counter("gemini.batch.chunks", "result", "retried").increment();
+                    return scoreChunk(resumeInfo, chunk, indexes, cacheKeys, results, onResult, attempt + 1);
+                }
+                log.error("Gemini 배치 청크 실패({}건), 기본 매칭으로 대체", chunk.size(), error);
+                meterRegistry.counter("gemini.batch.chunks", "result", "degraded").increment();
+                return CompletableFuture.<Void>completedFuture(null);
+            })
+            .thenCompose(next -> next);
     }
 
     /**
@@ -95,7 +262,6 @@ public class GeminiMatchingService {
             당신은 채용 전문가입니다. 아래 이력서와 채용공고를 분석하여 매칭도를 평가해주세요.
             
             [이력서 정보]
-            이름: %s
             학력: %s
             총 경력: %s
             경력 상세:
@@ -143,7 +309,6 @@ public class GeminiMatchingService {
               "weaknesses": ["AWS 경험 부족"]
             }
             """,
-            resume.getName() != null ? resume.getName() : "미입력",
             educationStr,
             totalCareer,
             experienceStr,
@@ -186,7 +351,6 @@ public class GeminiMatchingService {
             당신은 채용 전문가입니다. 아래 이력서와 여러 채용공고를 분석하여 각각의 매칭도를 평가해주세요.
             
             [이력서 정보]
-            이름: %s
             학력: %s
             총 경력: %s
             경력 상세:
@@ -228,7 +392,6 @@ public class GeminiMatchingService {
               }
             ]
             """,
-            resume.getName() != null ? resume.getName() : "미입력",
             educationStr,
             totalCareer,
             experienceStr,
@@ -279,11 +442,12 @@ public class GeminiMatchingService {
     }
 
     /**
-     * 2233076 13주차 추가: 총 경력 계산
+     * 총 경력 개월 수 (재직 중이거나 종료일이 없으면 오늘까지)
+     * - 프롬프트용 calculateTotalCareer 와 LocalMatchEngine 이 같이 사용
      */
-    private String calculateTotalCareer(List<ExperienceInfo> experiences) {
+    static int totalCareerMonths(List<ExperienceInfo> experiences) {
         if (experiences == null || experiences.isEmpty()) {
-            return "신입";
+            return 0;
         }
         
         int totalMonths = 0;
@@ -297,6 +461,14 @@ public class GeminiMatchingService {
                 totalMonths += period.getYears() * 12 + period.getMonths();
             }
         }
+        return totalMonths;
+    }
+
+    /**
+     * 2233076 13주차 추가: 총 경력 계산
+     */
+    private String calculateTotalCareer(List<ExperienceInfo> experiences) {
+        int totalMonths = totalCareerMonths(experiences);
         
         int years = totalMonths / 12;
         int months = totalMonths % 12;
@@ -328,13 +500,18 @@ public class GeminiMatchingService {
     }
 
     /**
-     * Gemini API 호출
+     * 같은 프롬프트로 동시에 들어온 호출은 한 번만 보낸다 (single-flight)
      */
-    private String callGeminiApi(String prompt) throws Exception {
-        String url = apiUrl + "?key=" + apiKey;
+    private CompletableFuture<String> callGeminiShared(String prompt) {
+        String fingerprint = MatchKeys.sha256(prompt);
+        return callCoalescer.execute(fingerprint, () -> callLimiter.submit(() -> callGeminiApi(prompt)));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    /**
+     * Gemini API 호출 (논블로킹, 커넥션 풀 공유 HttpClient)
+     */
+    private CompletableFuture<String> callGeminiApi(String prompt) {
+        String url = apiUrl + "?key=" + apiKey;
 
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("contents", List.of(
@@ -343,11 +520,42 @@ public class GeminiMatchingService {
             ))
         ));
 
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-        String response = restTemplate.postForObject(url, request, String.class);
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(requestBody)))
+                .build();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .thenApply(response -> {
+                if (response.statusCode() >= 400) {
+                    throw new IllegalStateException("Gemini API 오류 응답: " + response.statusCode());
+                }
+                log.debug("Gemini API 응답: {}", response.body());
+                return response.body();
+            });
+    }
+
+    private static <T> T unchecked(ThrowingSupplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
 
-        log.debug("Gemini API 응답: {}", response);
-        return response;
+    @FunctionalInterface
+    private interface ThrowingSupplier<T> {
+        T get() throws Exception;
     }
 
     /**
@@ -369,11 +577,17 @@ public class GeminiMatchingService {
         String json = text.replaceAll("```json\\s*|```", "").trim();
         JsonNode result = objectMapper.readTree(json);
 
-        int matchScore = result.path("matchScore").asInt(0);
-        int skillMatch = result.path("skillMatch").asInt(0);
-        int educationMatch = result.path("educationMatch").asInt(0);
-        int careerMatch = result.path("careerMatch").asInt(0);
-        int otherMatch = result.path("otherMatch").asInt(0);
+        // 배치 응답과 같은 기준: 다섯 점수가 모두 0~100 정수가 아니면 실패
+        // -> 캐시에 넣지 않고 호출부(exceptionally)에서 기본 매칭으로 대체
+        Integer matchScore = score(result, "matchScore");
+        Integer skillMatch = score(result, "skillMatch");
+        Integer educationMatch = score(result, "educationMatch");
+        Integer careerMatch = score(result, "careerMatch");
+        Integer otherMatch = score(result, "otherMatch");
+        if (matchScore == null || skillMatch == null || educationMatch == null
+            || careerMatch == null || otherMatch == null) {
+            throw new IllegalStateException("Gemini 응답의 매칭 점수가 없거나 0~100 범위를 벗어남: " + json);
+        }
         String summary = result.path("summary").asText("");
 
         List<String> strengths = new ArrayList<>();
@@ -396,29 +610,19 @@ public class GeminiMatchingService {
                               otherMatch, summary, strengths, weaknesses);
     }
 
+    /**
+     * 즉시 계산되는 기본 매칭 점수 (스트리밍 응답의 1차 결과용)
+     */
+    public MatchResult calculateQuickMatch(ResumeInfo resumeInfo, JobDto job) {
+        return simpleMatch(resumeInfo, job);
+    }
+
     /**
      * 2233076 13주차 개선: 기본 매칭 (Gemini 사용 불가 시)
+     * - 로컬 매칭 엔진(LocalMatchEngine)으로 스킬/학력/경력/지역을 모두 평가
      */
     private MatchResult simpleMatch(ResumeInfo resume, JobDto job) {
-        List<String> resumeSkills = resume.getSkills() != null ? resume.getSkills() : List.of();
-        List<String> jobTags = job.getTags() != null ? job.getTags() : List.of();
-        
-        if (jobTags.isEmpty() || resumeSkills.isEmpty()) {
-            return new MatchResult(0, 0, 0, 0, 0, "스킬 정보 없음", List.of(), List.of());
-        }
-
-        int matchedCount = 0;
-        for (String tag : jobTags) {
-            boolean matched = resumeSkills.stream()
-                .anyMatch(s -> s.equalsIgnoreCase(tag));
-            if (matched) matchedCount++;
-        }
-
-        int skillMatch = (int) Math.round((double) matchedCount / jobTags.size() * 100);
-        int matchScore = (int) Math.round(skillMatch * 0.4); // 스킬만 40% 가중치
-        
-        return new MatchResult(matchScore, skillMatch, 0, 0, 0, "기본 매칭 (스킬만)", 
-                              List.of(), List.of());
+        return localMatchEngine.score(resume, job);
     }
 
     /**
@@ -438,24 +642,56 @@ public class GeminiMatchingService {
         String json = text.replaceAll("```json\\s*|```", "").trim();
         JsonNode results = objectMapper.readTree(json);
 
-        List<MatchResult> matchResults = new ArrayList<>();
-        
+        // jobIndex(1부터) 위치에 채움 (응답 순서는 믿지 않음)
+        // - jobIndex 가 없거나 범위를 벗어나거나 점수가 0~100 이 아니면 버림
+        // - 같은 jobIndex 가 두 번 나오면 어느 쪽이 맞는지 알 수 없으므로 둘 다 버림
+        // 버린 공고는 null -> 캐시에 넣지 않고 호출부에서 기본 매칭으로 대체
+        List<MatchResult> matchResults = new ArrayList<>(Collections.nCopies(jobs.size(), null));
+        boolean[] seen = new boolean[jobs.size()];
+
         for (JsonNode result : results) {
-            int jobIndex = result.path("jobIndex").asInt(1) - 1;
-            int matchScore = result.path("matchScore").asInt(0);
-            int skillMatch = result.path("skillMatch").asInt(0);
-            int educationMatch = result.path("educationMatch").asInt(0);
-            int careerMatch = result.path("careerMatch").asInt(0);
-            int otherMatch = result.path("otherMatch").asInt(0);
+            JsonNode indexNode = result.path("jobIndex");
+            if (!indexNode.isIntegralNumber()) {
+                continue;
+            }
+            int jobIndex = indexNode.asInt() - 1;
+            if (jobIndex < 0 || jobIndex >= jobs.size()) {
+                continue;
+            }
+            if (seen[jobIndex]) {
+                log.warn("Gemini 배치 응답에 jobIndex {} 가 중복되어 해당 결과를 버림", jobIndex + 1);
+                matchResults.set(jobIndex, null);
+                continue;
+            }
+            seen[jobIndex] = true;
+            Integer matchScore = score(result, "matchScore");
+            Integer skillMatch = score(result, "skillMatch");
+            Integer educationMatch = score(result, "educationMatch");
+            Integer careerMatch = score(result, "careerMatch");
+            Integer otherMatch = score(result, "otherMatch");
+            if (matchScore == null || skillMatch == null || educationMatch == null
+                || careerMatch == null || otherMatch == null) {
+                continue;
+            }
             String summary = result.path("summary").asText("");
-            
-            matchResults.add(new MatchResult(matchScore, skillMatch, educationMatch, 
+
+            matchResults.set(jobIndex, new MatchResult(matchScore, skillMatch, educationMatch,
                                             careerMatch, otherMatch, summary, List.of(), List.of()));
         }
-        
+
         return matchResults;
     }
 
+    /** 0~100 정수 점수 (없거나 정수가 아니거나 범위 밖이면 null) */
+    private static Integer score(JsonNode result, String field) {
+        JsonNode node = result.path(field);
+        if (!node.isIntegralNumber()) {
+            return null;
+        }
+        int value = node.asInt();
+        return value >= 0 && value <= 100 ? value : null;
+    }
+
     /**
      * 2233076 13주차 개선: 종합 이력서 정보
      */
@@ -464,6 +700,8 @@ public class GeminiMatchingService {
         private List<String> skills;
         private List<EducationInfo> educations;
         private List<ExperienceInfo> experiences;
+        private String preferredLocation; // 희망 근무지 (선택, 로컬 매칭의 지역 점수에 사용)
+        private String fingerprint;       // 서버 조립 시 미리 계산한 매칭 지문 (요청/응답 JSON 에는 포함 안 됨)
 
         public ResumeInfo() {}
 
@@ -484,6 +722,10 @@ public class GeminiMatchingService {
         public void setEducations(List<EducationInfo> educations) { this.educations = educations; }
         public List<ExperienceInfo> getExperiences() { return experiences; }
         public void setExperiences(List<ExperienceInfo> experiences) { this.experiences = experiences; }
+        public String getPreferredLocation() { return preferredLocation; }
+        public void setPreferredLocation(String preferredLocation) { this.preferredLocation = preferredLocation; }
+        String fingerprint() { return fingerprint; }
+        void fingerprint(String fingerprint) { this.fingerprint = fingerprint; }
     }
 
     /**
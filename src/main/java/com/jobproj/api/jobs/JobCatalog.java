@@ -0,0 +1,45 @@
+package com.jobproj.api.jobs;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 공고 카탈로그 (메모리 스냅샷)
+ * - 수집기가 새 목록을 만들면 publish() 로 통째로 교체 (읽는 쪽은 잠금 없이 항상 완성된 목록을 봄)
+ * - 추천/검색은 잡코리아를 직접 호출하지 않고 이 스냅샷만 읽는다
+ */
+@Component
+@RequiredArgsConstructor
+public class JobCatalog {
+
+    private final JobSearchIndex searchIndex;
+
+    private volatile Snapshot current = new Snapshot(List.of(), null);
+
+    public Snapshot snapshot() {
+        return current;
+    }
+
+    /** 한 번이라도 수집 결과가 반영되었는지 */
+    public boolean isLoaded() {
+        return current.refreshedAt() != null;
+    }
+
+    /**
+     * 새 목록 반영 - 검색 색인을 먼저 만든 뒤 스냅샷을 교체
+     */
+    public void publish(List<JobDto> postings) {
+        List<JobDto> frozen = List.copyOf(postings);
+        searchIndex.refresh(frozen);
+        current = new Snapshot(frozen, Instant.now());
+    }
+
+    /**
+     * @param postings    불변 공고 목록 (수집 순서 유지)
+     * @param refreshedAt 반영 시각 (아직 수집 전이면 null)
+     */
+    public record Snapshot(List<JobDto> postings, Instant refreshedAt) {}
+}
@@ -0,0 +1,244 @@
+package com.jobproj.api.jobs;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 검색 필터/정렬용 사전 계산 색인 (불변, JobSearchIndex 스냅샷과 함께 교체)
+ * - 코드 조건(area, jtype, rbcd/rpcd, pay): 값 -> 문서 비트맵
+ * - 범위 조건(경력, 연봉): 값 기준으로 정렬된 문서 배열 -> 이진 탐색으로 구간을 비트맵으로 변환
+ * - 정렬(ob): 정렬 기준별로 미리 정렬해 둔 문서 번호 배열(view) + 문서별 순위(rank)
+ */
+final class JobFilterIndex {
+
+    static final JobFilterIndex EMPTY = new JobFilterIndex(List.of());
+
+    private static final String AREA_ALL_SUFFIX = "000";
+
+    private final int size;
+    private final Map<String, BitSet> byArea = new HashMap<>();
+    private final Map<Integer, BitSet> byJobType = new HashMap<>();
+    private final Map<String, BitSet> byPartNo = new HashMap<>();
+    private final Map<Integer, BitSet> byPay = new HashMap<>();
+    private final BitSet careerUnknown = new BitSet();
+    private final SortedValues career;
+    private final SortedValues salaryMin;
+    private final SortedValues salaryMax;
+    private final Map<Integer, int[]> views = new HashMap<>();
+    private final Map<Integer, int[]> ranks = new HashMap<>();
+
+    JobFilterIndex(List<JobDto> jobs) {
+        this.size = jobs.size();
+        for (int id = 0; id < size; id++) {
+            JobDto job = jobs.get(id);
+            if (job.getAreaCodes() != null) {
+                for (String code : job.getAreaCodes()) {
+                    if (code == null || code.isBlank()) {
+                        continue;
+                    }
+                    bits(byArea, code).set(id);
+                    // "I000" 처럼 시/도 전체 코드로도 찾을 수 있게
+                    bits(byArea, code.charAt(0) + AREA_ALL_SUFFIX).set(id);
+                }
+            }
+            if (job.getJobTypes() != null) {
+                for (Integer type : job.getJobTypes()) {
+                    if (type != null) {
+                        bits(byJobType, type).set(id);
+                    }
+                }
+            }
+            if (job.getPartNo() != null) {
+                bits(byPartNo, job.getPartNo()).set(id);
+            }
+            if (job.getPay() != null) {
+                bits(byPay, job.getPay()).set(id);
+            }
+            if (job.getCareer() == null) {
+                careerUnknown.set(id);
+            }
+        }
+        this.career = new SortedValues(jobs, JobDto::getCareer);
+        this.salaryMin = new SortedValues(jobs, JobDto::getSalaryMin);
+        this.salaryMax = new SortedValues(jobs, JobDto::getSalaryMax);
+
+        addView(jobs, 1, nullsLast(JobDto::getPostedAt, Comparator.<LocalDateTime>reverseOrder()));
+        addView(jobs, 2, nullsLast(JobDto::getEDate, Comparator.<String>reverseOrder()));
+        addView(jobs, 3, nullsLast(JobDto::getEndDate, Comparator.<String>naturalOrder()));
+        addView(jobs, 4, nullsLast(JobDto::getSalaryMax, Comparator.<Integer>reverseOrder()));
+    }
+
+    /**
+     * 필터에 맞는 문서 비트맵 (조건이 없으면 null = 전체)
+     */
+    BitSet matching(JobSearchFilter filter) {
+        if (filter == null || !filter.hasConditions()) {
+            return null;
+        }
+        BitSet result = null;
+        if (notEmpty(filter.getAreaCodes())) {
+            result = and(result, anyOf(byArea, filter.getAreaCodes()));
+        }
+        if (notEmpty(filter.getJobTypes())) {
+            result = and(result, anyOf(byJobType, filter.getJobTypes()));
+        }
+        if (notEmpty(filter.getPartCodes())) {
+            result = and(result, anyOf(byPartNo, filter.getPartCodes()));
+        }
+        if (notEmpty(filter.getBusinessCodes())) {
+            BitSet bs = new BitSet(size);
+            for (Map.Entry<String, BitSet> e : byPartNo.entrySet()) {
+                for (String prefix : filter.getBusinessCodes()) {
+                    if (e.getKey().startsWith(prefix)) {
+                        bs.or(e.getValue());
+                        break;
+                    }
+                }
+            }
+            result = and(result, bs);
+        }
+        if (filter.getPay() != null) {
+            result = and(result, copy(byPay.get(filter.getPay())));
+        }
+        if (filter.getSalaryFrom() != null) {
+            // 공고 최대 연봉 >= 희망 최소
+            result = and(result, salaryMax.range(filter.getSalaryFrom(), null));
+        }
+        if (filter.getSalaryTo() != null) {
+            // 공고 최소 연봉 <= 희망 최대
+            result = and(result, salaryMin.range(null, filter.getSalaryTo()));
+        }
+        if (filter.getCareerMin() != null || filter.getCareerMax() != null) {
+            BitSet bs = career.range(filter.getCareerMin(), filter.getCareerMax());
+            if (filter.isIncludeCareerAny()) {
+                bs.or(careerUnknown);
+            }
+            if (filter.isIncludeNewcomer()) {
+                bs.or(career.range(0, 0));
+            }
+            result = and(result, bs);
+        }
+        return result;
+    }
+
+    /** 정렬 기준별 문서 순서 (지원하지 않는 기준이면 null = 기본 순서) */
+    int[] view(Integer orderBy) {
+        return orderBy == null ? null : views.get(orderBy);
+    }
+
+    /** 문서 번호 -> view 안에서의 순위 */
+    int[] rank(Integer orderBy) {
+        return orderBy == null ? null : ranks.get(orderBy);
+    }
+
+    private void addView(List<JobDto> jobs, int orderBy, Comparator<JobDto> comparator) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        // 같은 값이면 기본 순서 유지 (Arrays.sort 는 안정 정렬)
+        Arrays.sort(order, (a, b) -> comparator.compare(jobs.get(a), jobs.get(b)));
+
+        int[] view = new int[size];
+        int[] rank = new int[size];
+        for (int r = 0; r < size; r++) {
+            view[r] = order[r];
+            rank[order[r]] = r;
+        }
+        views.put(orderBy, view);
+        ranks.put(orderBy, rank);
+    }
+
+    private static <T> Comparator<JobDto> nullsLast(Function<JobDto, T> key, Comparator<T> order) {
+        return Comparator.comparing(key, Comparator.nullsLast(order));
+    }
+
+    private static <K> BitSet bits(Map<K, BitSet> map, K key) {
+        return map.computeIfAbsent(key, k -> new BitSet());
+    }
+
+    private <K> BitSet anyOf(Map<K, BitSet> map, List<K> keys) {
+        BitSet bs = new BitSet(size);
+        for (K key : keys) {
+            BitSet docs = map.get(key);
+            if (docs != null) {
+                bs.or(docs);
+            }
+        }
+        return bs;
+    }
+
+    private static BitSet and(BitSet acc, BitSet next) {
+        if (acc == null) {
+            return next;
+        }
+        acc.and(next);
+        return acc;
+    }
+
+    private static BitSet copy(BitSet bs) {
+        return bs != null ? (BitSet) bs.clone() : new BitSet();
+    }
+
+    private static boolean notEmpty(List<?> list) {
+        return list != null && !list.isEmpty();
+    }
+
+    /**
+     * 정수 필드 기준 정렬 배열 (값이 없는 공고는 제외)
+     */
+    private static final class SortedValues {
+        private final int[] values;
+        private final int[] docs;
+
+        private SortedValues(List<JobDto> jobs, Function<JobDto, Integer> field) {
+            long[] packed = new long[jobs.size()];
+            int n = 0;
+            for (int id = 0; id < jobs.size(); id++) {
+                Integer v = field.apply(jobs.get(id));
+                if (v != null) {
+                    // 상위 32비트: 값, 하위 32비트: 문서 번호 -> long 정렬 한 번으로 (값, 문서) 순서
+                    packed[n++] = ((long) v << 32) | id;
+                }
+            }
+            Arrays.sort(packed, 0, n);
+            this.values = new int[n];
+            this.docs = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = (int) (packed[i] >> 32);
+                docs[i] = (int) packed[i];
+            }
+        }
+
+        /** min <= 값 <= max 인 문서 (null 이면 해당 쪽 제한 없음) */
+        private BitSet range(Integer min, Integer max) {
+            int from = min == null ? 0 : lowerBound(min);
+            int to = max == null ? values.length : lowerBound(max + 1L);
+            BitSet bs = new BitSet();
+            for (int i = from; i < to; i++) {
+                bs.set(docs[i]);
+            }
+            return bs;
+        }
+
+        private int lowerBound(long target) {
+            int lo = 0;
+            int hi = values.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] < target) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.jobproj.api.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 잡코리아 채용공고 API 클라이언트
+ * - 요청 처리 중에는 호출하지 않고, 공고 수집(JobsService.refreshCatalog)에서만 사용
+ * - 응답 XML 은 문자열로 받지 않고 스트림으로 읽으며 파싱 (JobKoreaXmlParser)
+ * - read-timeout-ms 는 응답 헤더까지, page-timeout-ms 는 본문까지 포함한 페이지 전체 제한 시간
+ *   (본문을 읽다 멈추면 스트림을 닫아 읽던 스레드도 풀어 줌)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobKoreaClient {
+
+    private final HttpClient httpClient;
+
+    @Value("${jobkorea.api.url:}")
+    private String apiUrl;
+
+    @Value("${jobkorea.api.key:}")
+    private String apiKey;
+
+    @Value("${jobkorea.api.default-keywords:Java,Spring,백엔드}")
+    private String defaultKeywords;
+
+    @Value("${jobkorea.api.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${jobkorea.api.page-timeout-ms:15000}")
+    private long pageTimeoutMs;
+
+    public boolean isApiConfigured() {
+        return apiUrl != null && !apiUrl.isBlank()
+            && apiKey != null && !apiKey.isBlank();
+    }
+
+    /**
+     * 공고 한 페이지 조회 (page 는 1부터). 실패하면 예외로 완료된다.
+     * - size 건을 읽으면 나머지 응답은 읽지 않고 연결을 닫는다
+     * - page-timeout-ms 안에 본문까지 다 읽지 못하면 TimeoutException 으로 완료된다
+     */
+    public CompletableFuture<List<JobDto>> fetchPage(int page, int size) {
+        try {
+            String requestUrl = String.format(
+                "%s?size=%d&page=%d&keyword=%s&rbcd=10007&ob=2",
+                apiUrl, size, page, URLEncoder.encode(defaultKeywords, StandardCharsets.UTF_8)
+            );
+            log.info("잡코리아 API 요청: {}", requestUrl);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(requestUrl))
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .GET()
+                .build();
+            BodyGuard guard = new BodyGuard();
+            CompletableFuture<HttpResponse<InputStream>> sent =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+            return sent
+                .thenApply(response -> {
+                    try (InputStream body = guard.attach(response.body())) {
+                        if (response.statusCode() >= 400) {
+                            throw new IllegalStateException("잡코리아 API 오류 응답: " + response.statusCode());
+                        }
+                        return parseJobkoreaXmlResponse(body, size);
+                    } catch (IllegalStateException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IllegalStateException("잡코리아 API 응답 파싱 실패", e);
+                    }
+                })
+                .orTimeout(pageTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((jobs, error) -> {
+                    if (error instanceof TimeoutException) {
+                        log.warn("잡코리아 API 페이지 {} 제한 시간({}ms) 초과", page, pageTimeoutMs);
+                        sent.cancel(true);
+                        guard.expire();
+                    }
+                });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /** 제한 시간이 지나면 읽던 응답 본문을 닫음 (이후에 도착한 본문은 바로 닫음) */
+    private static final class BodyGuard {
+        private InputStream body;
+        private boolean expired;
+
+        synchronized InputStream attach(InputStream in) throws IOException {
+            if (expired) {
+                in.close();
+                throw new IOException("page timeout");
+            }
+            body = in;
+            return in;
+        }
+
+        synchronized void expire() {
+            expired = true;
+            if (body != null) {
+                try {
+                    body.close();
+                } catch (IOException e) {
+                    log.debug("잡코리아 응답 스트림 닫기 실패", e);
+                }
+            }
+        }
+    }
+
+    private List<JobDto> parseJobkoreaXmlResponse(InputStream body, int limit) throws Exception {
+        List<JobDto> jobs = new ArrayList<>(limit);
+        JobKoreaXmlParser.parse(body, limit, jobs::add);
+        log.debug("잡코리아 공고 {}건 파싱", jobs.size());
+        return jobs;
+    }
+}
@@ -0,0 +1,196 @@
+package com.jobproj.api.jobs;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 잡코리아 공고 XML 스트리밍 파서 (StAX)
+ * - 응답 본문을 스트림으로 읽으며 공고를 한 건씩 만들어 넘김 (DOM/전체 문자열을 만들지 않음)
+ * - GI_No 자식 요소를 가진 요소를 공고 1건으로 본다 (감싸는 요소 이름과 무관)
+ * - limit 건을 채우면 나머지는 읽지 않고 멈춤
+ */
+final class JobKoreaXmlParser {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+    private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private JobKoreaXmlParser() {}
+
+    /**
+     * @param limit 최대 건수 (0 이하면 제한 없음)
+     * @return 넘긴 공고 수
+     */
+    static int parse(InputStream in, int limit, Consumer<JobDto> sink) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            // 열린 요소마다 직접 가진 텍스트 자식(필드) 값을 모음 - 현재 공고 1건 분량만 메모리에 유지
+            Deque<Map<String, String>> fields = new ArrayDeque<>();
+            StringBuilder text = new StringBuilder();
+            int count = 0;
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        fields.push(new HashMap<>());
+                        text.setLength(0);
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> text.append(reader.getText());
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        Map<String, String> own = fields.pop();
+                        if (own.containsKey("GI_No")) {
+                            sink.accept(toJob(own));
+                            count++;
+                            if (limit > 0 && count >= limit) {
+                                return count;
+                            }
+                        } else if (own.isEmpty() && !fields.isEmpty()) {
+                            // 자식이 없는 요소 = 필드 -> 부모에 기록
+                            fields.peek().put(reader.getLocalName(), text.toString().strip());
+                        }
+                        text.setLength(0);
+                    }
+                    default -> {
+                        // 주석, 처리 지시문 등은 무시
+                    }
+                }
+            }
+            return count;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static JobDto toJob(Map<String, String> f) {
+        Long giNo = parseLong(f.get("GI_No"));
+        Integer career = parseInt(f.get("GI_Career"));
+        String payTerm = blankToNull(f.get("GI_Pay_Term"));
+        Integer[] salary = parseRange(payTerm);
+        String url = blankToNull(f.get("JK_URL"));
+        String wDate = blankToNull(f.get("GI_W_Date"));
+
+        return JobDto.builder()
+            .id(giNo != null ? "JK-" + giNo : null)
+            .title(blankToNull(f.get("GI_Subject")))
+            .company(blankToNull(f.get("C_Name")))
+            .location(blankToNull(f.get("AreaName")))
+            .salaryMin(salary[0])
+            .salaryMax(salary[1])
+            .experience(levelOf(career))
+            .tags(split(f.get("GI_Keyword")))
+            .postedAt(wDate != null ? parseDate(wDate) : null)
+            .applyUrl(url)
+            .source("JOBKOREA")
+            .sourceUrl(url)
+            .giNo(giNo)
+            .areaCodes(split(f.get("AreaCode")))
+            .jobTypes(splitInts(f.get("GI_Job_Type")))
+            .partNo(blankToNull(f.get("GI_Part_No")))
+            .career(career)
+            .pay(parseInt(f.get("GI_Pay")))
+            .payTerm(payTerm)
+            .endDate(blankToNull(f.get("GI_End_Date")))
+            .wDate(wDate)
+            .eDate(blankToNull(f.get("GI_E_Date")))
+            .build();
+    }
+
+    /** 경력 연차 -> 경력 레벨 (값이 없으면 무관) */
+    private static ExperienceLevel levelOf(Integer careerYears) {
+        if (careerYears == null) {
+            return null;
+        }
+        if (careerYears <= 0) {
+            return ExperienceLevel.ENTRY;
+        }
+        if (careerYears <= 2) {
+            return ExperienceLevel.JUNIOR;
+        }
+        if (careerYears <= 6) {
+            return ExperienceLevel.MID;
+        }
+        return careerYears <= 9 ? ExperienceLevel.SENIOR : ExperienceLevel.LEAD;
+    }
+
+    private static LocalDateTime parseDate(String yyyymmdd) {
+        try {
+            return LocalDate.parse(yyyymmdd, YYYYMMDD).atStartOfDay();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** "3000,6000" -> [3000, 6000] */
+    private static Integer[] parseRange(String s) {
+        List<Integer> values = splitInts(s);
+        return new Integer[] {
+            values.isEmpty() ? null : values.get(0),
+            values.size() > 1 ? values.get(1) : null
+        };
+    }
+
+    private static List<String> split(String s) {
+        List<String> values = new ArrayList<>();
+        if (s == null) {
+            return values;
+        }
+        for (String v : s.split(",")) {
+            if (!v.isBlank()) {
+                values.add(v.strip());
+            }
+        }
+        return values;
+    }
+
+    private static List<Integer> splitInts(String s) {
+        List<Integer> values = new ArrayList<>();
+        for (String v : split(s)) {
+            Integer n = parseInt(v);
+            if (n != null) {
+                values.add(n);
+            }
+        }
+        return values;
+    }
+
+    private static Integer parseInt(String s) {
+        try {
+            return s == null || s.isBlank() ? null : Integer.valueOf(s.strip());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long parseLong(String s) {
+        try {
+            return s == null || s.isBlank() ? null : Long.valueOf(s.strip());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.isBlank() ? null : s;
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티/DTD 차단 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -0,0 +1,116 @@
+package com.jobproj.api.jobs;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 잡코리아 스타일 검색 필터 (/jobs/search 파라미터)
+ * - 값이 null/빈 목록인 조건은 적용하지 않음
+ * - 목록 조건은 OR, 서로 다른 조건끼리는 AND
+ */
+@Getter
+@Builder
+public class JobSearchFilter {
+
+    public static final JobSearchFilter NONE = JobSearchFilter.builder().build();
+
+    /** 정렬: 1 등록일 최신순, 2 수정일 최신순, 3 마감 임박순, 4 연봉 높은순 (그 외/미지정: 기본 순서) */
+    private Integer orderBy;
+
+    /** area: 근무지역 코드 (X000 이면 해당 시/도 전체) */
+    private List<String> areaCodes;
+
+    /** jtype: 고용형태 코드 */
+    private List<Integer> jobTypes;
+
+    /** rbcd: 업직종 코드 (partNo 앞부분 일치) */
+    private List<String> businessCodes;
+
+    /** rpcd: 세부 직무 코드 (partNo 일치) */
+    private List<String> partCodes;
+
+    /** pay: 급여 형태 코드 */
+    private Integer pay;
+
+    /** payterm: 희망 연봉 범위(만원) - 공고 연봉 범위와 겹치면 포함 */
+    private Integer salaryFrom;
+    private Integer salaryTo;
+
+    /** car1/car2: 경력 연차 범위 */
+    private Integer careerMin;
+    private Integer careerMax;
+
+    /** car_chk=1: 경력 무관(경력 정보 없음) 공고 포함 */
+    private boolean includeCareerAny;
+
+    /** mcareerchk=1: 신입(경력 0) 공고 포함 */
+    private boolean includeNewcomer;
+
+    public boolean hasConditions() {
+        return notEmpty(areaCodes) || notEmpty(jobTypes) || notEmpty(businessCodes) || notEmpty(partCodes)
+            || pay != null || salaryFrom != null || salaryTo != null
+            || careerMin != null || careerMax != null;
+    }
+
+    /**
+     * 요청 파라미터로 필터 생성 (형식이 잘못되면 IllegalArgumentException -> 400)
+     */
+    public static JobSearchFilter of(
+        Integer ob, String area, String jtype, String rbcd, String rpcd,
+        Integer pay, String payterm, Integer car1, Integer car2, Integer carChk, Integer mcareerchk
+    ) {
+        Integer salaryFrom = null;
+        Integer salaryTo = null;
+        List<Integer> range = parseInts("payterm", payterm);
+        if (!range.isEmpty()) {
+            salaryFrom = range.get(0);
+            salaryTo = range.size() > 1 ? range.get(1) : null;
+        }
+        return JobSearchFilter.builder()
+            .orderBy(ob)
+            .areaCodes(split(area))
+            .jobTypes(parseInts("jtype", jtype))
+            .businessCodes(split(rbcd))
+            .partCodes(split(rpcd))
+            .pay(pay)
+            .salaryFrom(salaryFrom)
+            .salaryTo(salaryTo)
+            .careerMin(car1)
+            .careerMax(car2)
+            .includeCareerAny(carChk != null && carChk == 1)
+            .includeNewcomer(mcareerchk != null && mcareerchk == 1)
+            .build();
+    }
+
+    private static List<String> split(String csv) {
+        List<String> values = new ArrayList<>();
+        if (csv == null) {
+            return values;
+        }
+        for (String v : csv.split(",")) {
+            if (!v.isBlank()) {
+                values.add(v.strip());
+            }
+        }
+        return values;
+    }
+
+    private static List<Integer> parseInts(String name, String csv) {
+        List<Integer> values = new ArrayList<>();
+        for (String v : split(csv)) {
+            try {
+                values.add(Integer.parseInt(v));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(name + " 형식이 올바르지 않습니다: " + csv);
+            }
+        }
+        return values;
+    }
+
+    private static boolean notEmpty(List<?> list) {
+        return list != null && !list.isEmpty();
+    }
+}
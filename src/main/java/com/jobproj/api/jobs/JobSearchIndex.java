@@ -0,0 +1,448 @@
+package com.jobproj.api.jobs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 공고 검색용 역색인 (메모리)
+ * - 제목/회사/근무지/태그를 미리 소문자로 정규화해 두고, 글자 단위 1-gram/2-gram 으로 색인
+ *   (띄어쓰기 없는 한글 검색어도 부분 일치로 찾을 수 있음)
+ * - 검색: 검색어의 n-gram 포스팅 리스트 교집합 -> 후보만 부분 문자열 확인 (기존 contains 검색과 같은 결과)
+ * - 페이지 구간에 해당하는 공고만 모으고, 전체 결과 리스트는 만들지 않음
+ * - 공고 목록이 바뀌면 바뀐 공고만 다시 정규화하고, 색인은 새로 만들어 통째로 교체(volatile)
+ */
+@Slf4j
+@Component
+public class JobSearchIndex {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile List<JobDto> lastSource;
+
+    /**
+     * 공고 목록 반영. 같은 목록이면 아무것도 하지 않는다.
+     */
+    public void refresh(List<JobDto> postings) {
+        if (postings == lastSource) {
+            return;
+        }
+        synchronized (this) {
+            if (postings == lastSource) {
+                return;
+            }
+            Snapshot current = snapshot;
+            if (current.sameAs(postings)) {
+                lastSource = postings;
+                return;
+            }
+            snapshot = Snapshot.build(postings, current);
+            lastSource = postings;
+            log.debug("공고 검색 색인 갱신: {}건", postings.size());
+        }
+    }
+
+    /**
+     * 부분 일치 검색 (대소문자 무시)
+     *
+     * @param offset 건너뛸 건수
+     * @param limit  가져올 건수
+     */
+    public Page search(String q, int offset, int limit) {
+        return search(q, JobSearchFilter.NONE, offset, limit);
+    }
+
+    /**
+     * 부분 일치 검색 + 필터 + 정렬
+     * - 검색어 결과(문서 번호 배열)와 필터 비트맵의 교집합을 구한 뒤
+     * - 정렬 기준이 있으면 미리 정렬된 view 순서로 페이지 구간만 꺼낸다
+     */
+    public Page search(String q, JobSearchFilter filter, int offset, int limit) {
+        Snapshot s = snapshot;
+        String term = q == null ? "" : q.strip().toLowerCase(Locale.ROOT);
+
+        int[] ids = term.isEmpty() ? null : s.matches(term);   // null = 전체
+        BitSet bits = s.filters.matching(filter);              // null = 조건 없음
+        if (ids != null && bits != null) {
+            ids = retain(ids, bits);
+            bits = null;
+        }
+
+        Integer orderBy = filter != null ? filter.getOrderBy() : null;
+        int[] view = s.filters.view(orderBy);
+        if (view == null) {
+            // 기본 순서 (문서 번호 순)
+            if (ids != null) {
+                return slice(s, ids, ids.length, offset, limit);
+            }
+            if (bits != null) {
+                return sliceBits(s, bits, offset, limit);
+            }
+            return slice(s, null, s.docs.length, offset, limit);
+        }
+
+        if (ids != null && ids.length * 8L < s.docs.length) {
+            // 결과가 적으면 결과만 순위로 정렬
+            return slice(s, sortByRank(ids, s.filters.rank(orderBy)), ids.length, offset, limit);
+        }
+        if (ids == null && bits == null) {
+            return slice(s, view, view.length, offset, limit);
+        }
+        // 결과가 많으면 정렬된 view 를 따라가며 포함 여부만 확인
+        BitSet member = bits != null ? bits : toBits(ids);
+        int total = member.cardinality();
+        List<JobDto> content = new ArrayList<>(Math.max(0, Math.min(limit, total - offset)));
+        int seen = 0;
+        for (int docId : view) {
+            if (content.size() >= limit) {
+                break;
+            }
+            if (member.get(docId)) {
+                if (seen >= offset) {
+                    content.add(s.docs[docId].job);
+                }
+                seen++;
+            }
+        }
+        return new Page(total, content);
+    }
+
+    /** ids 가 null 이면 0..total-1 */
+    private static Page slice(Snapshot s, int[] ids, int total, int offset, int limit) {
+        int from = Math.min(offset, total);
+        int to = Math.min(from + limit, total);
+        List<JobDto> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(s.docs[ids != null ? ids[i] : i].job);
+        }
+        return new Page(total, content);
+    }
+
+    private static Page sliceBits(Snapshot s, BitSet bits, int offset, int limit) {
+        int total = bits.cardinality();
+        List<JobDto> content = new ArrayList<>(Math.max(0, Math.min(limit, total - offset)));
+        int seen = 0;
+        for (int docId = bits.nextSetBit(0); docId >= 0 && content.size() < limit; docId = bits.nextSetBit(docId + 1)) {
+            if (seen++ >= offset) {
+                content.add(s.docs[docId].job);
+            }
+        }
+        return new Page(total, content);
+    }
+
+    private static int[] retain(int[] ids, BitSet bits) {
+        IntList out = new IntList();
+        for (int id : ids) {
+            if (bits.get(id)) {
+                out.add(id);
+            }
+        }
+        return out.toArray();
+    }
+
+    private static BitSet toBits(int[] ids) {
+        BitSet bs = new BitSet();
+        for (int id : ids) {
+            bs.set(id);
+        }
+        return bs;
+    }
+
+    /** (순위 << 32 | 문서 번호) 로 묶어 정렬 */
+    private static int[] sortByRank(int[] ids, int[] rank) {
+        long[] packed = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            packed[i] = ((long) rank[ids[i]] << 32) | ids[i];
+        }
+        Arrays.sort(packed);
+        int[] sorted = new int[ids.length];
+        for (int i = 0; i < packed.length; i++) {
+            sorted[i] = (int) packed[i];
+        }
+        return sorted;
+    }
+
+    /**
+     * 검색어에 맞는 문서 번호 (오름차순)
+     * - n-gram 포스팅 리스트 교집합 후, 3글자 이상이면 부분 문자열 여부를 최종 확인
+     */
+    private static int[] findMatches(Snapshot s, String term) {
+        if (term.indexOf(FIELD_SEPARATOR) >= 0) {
+            return new int[0];
+        }
+        int[][] lists = s.postingsFor(term);
+        if (lists == null) {
+            return new int[0];
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        // 1~2글자 검색어는 n-gram 일치가 곧 부분 문자열 일치
+        boolean verify = term.length() > 2;
+
+        IntList out = new IntList();
+        int[] cursors = new int[lists.length];
+        outer:
+        for (int docId : lists[0]) {
+            for (int k = 1; k < lists.length; k++) {
+                int pos = advance(lists[k], cursors[k], docId);
+                cursors[k] = pos;
+                if (pos >= lists[k].length) {
+                    break outer; // 더 짧은 리스트가 끝나면 이후 교집합 없음
+                }
+                if (lists[k][pos] != docId) {
+                    continue outer;
+                }
+            }
+            // n-gram 이 모두 있어도 연속 부분 문자열이 아닐 수 있으므로 최종 확인
+            if (!verify || s.docs[docId].text.contains(term)) {
+                out.add(docId);
+            }
+        }
+        return out.toArray();
+    }
+
+    public int size() {
+        return snapshot.docs.length;
+    }
+
+    /** sorted 배열에서 from 이후 target 이상이 처음 나오는 위치 (지수 탐색 + 이진 탐색) */
+    private static int advance(int[] list, int from, int target) {
+        if (from >= list.length || list[from] >= target) {
+            return from;
+        }
+        // list[lo] < target 를 유지하며 간격을 두 배씩 늘려 범위를 찾음
+        int lo = from;
+        int step = 1;
+        int hi = lo + step;
+        while (hi < list.length && list[hi] < target) {
+            lo = hi;
+            step <<= 1;
+            hi = lo + step;
+        }
+        hi = Math.min(hi, list.length);
+        // (lo, hi) 구간에서 target 이상이 처음 나오는 위치
+        int left = lo + 1;
+        int right = hi;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (list[mid] < target) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    /** 1-gram 은 글자 코드, 2-gram 은 (앞 글자 << 16 | 뒤 글자) */
+    private static int gram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    private static void addGrams(String text, IntList out) {
+        for (int i = 0; i < text.length(); i++) {
+            out.add(text.charAt(i));
+            if (i + 1 < text.length()) {
+                out.add(gram(text.charAt(i), text.charAt(i + 1)));
+            }
+        }
+    }
+
+    /** 필드 경계 (검색어가 두 필드에 걸쳐 일치하지 않도록) */
+    private static final char FIELD_SEPARATOR = '\u0001';
+
+    /** 검색어별 결과 캐시 크기 (색인 교체 시 함께 버려짐) */
+    private static final int MATCH_CACHE_SIZE = 256;
+
+    private static String normalize(String s) {
+        return s == null ? null : s.toLowerCase(Locale.ROOT);
+    }
+
+    public record Page(int total, List<JobDto> content) {}
+
+    /**
+     * 정규화된 공고 1건
+     */
+    private static final class Doc {
+        private final JobDto job;
+        private final String key;
+        private final String text; // title, company, location, tags... 를 구분자로 이은 소문자 문자열
+        private final int[] grams;
+
+        private Doc(JobDto job) {
+            this.job = job;
+            this.key = keyOf(job);
+            List<String> f = new ArrayList<>();
+            f.add(normalize(job.getTitle()));
+            f.add(normalize(job.getCompany()));
+            f.add(normalize(job.getLocation()));
+            if (job.getTags() != null) {
+                for (String t : job.getTags()) {
+                    f.add(normalize(t));
+                }
+            }
+            StringBuilder sb = new StringBuilder();
+            IntList g = new IntList();
+            for (String field : f) {
+                if (field != null) {
+                    sb.append(field).append(FIELD_SEPARATOR);
+                    addGrams(field, g);
+                }
+            }
+            this.text = sb.toString();
+            this.grams = g.toSortedDistinctArray();
+        }
+
+        /** 내용이 같은 공고의 새 인스턴스: 정규화 결과는 그대로 사용 */
+        private Doc(JobDto job, Doc same) {
+            this.job = job;
+            this.key = same.key;
+            this.text = same.text;
+            this.grams = same.grams;
+        }
+
+        /** 검색 필드 내용이 같으면 같은 키 (정규화 결과 재사용 판단용) */
+        private static String keyOf(JobDto job) {
+            return job.getId() + '\u0000' + job.getTitle() + '\u0000' + job.getCompany()
+                + '\u0000' + job.getLocation() + '\u0000' + job.getTags();
+        }
+    }
+
+    /**
+     * 불변 색인 (검색 중에는 바뀌지 않음)
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new Doc[0], Map.of(), JobFilterIndex.EMPTY);
+
+        private final Doc[] docs;
+        private final Map<Integer, int[]> postings;
+        private final JobFilterIndex filters;
+        private final Map<String, int[]> matchCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > MATCH_CACHE_SIZE;
+            }
+        };
+
+        private Snapshot(Doc[] docs, Map<Integer, int[]> postings, JobFilterIndex filters) {
+            this.docs = docs;
+            this.postings = postings;
+            this.filters = filters;
+        }
+
+        /** 같은 검색어로 다음 페이지를 볼 때는 교집합을 다시 계산하지 않음 */
+        private int[] matches(String term) {
+            synchronized (matchCache) {
+                int[] cached = matchCache.get(term);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            int[] computed = findMatches(this, term);
+            synchronized (matchCache) {
+                matchCache.put(term, computed);
+            }
+            return computed;
+        }
+
+        private boolean sameAs(List<JobDto> postings) {
+            if (postings.size() != docs.length) {
+                return false;
+            }
+            for (int i = 0; i < docs.length; i++) {
+                if (postings.get(i) != docs[i].job) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 새 색인 생성 - 이전 색인에 같은 내용의 공고가 있으면 정규화 결과를 재사용
+         */
+        private static Snapshot build(List<JobDto> postings, Snapshot previous) {
+            Map<String, Doc> reusable = new HashMap<>(previous.docs.length * 2);
+            for (Doc d : previous.docs) {
+                reusable.put(d.key, d);
+            }
+
+            Doc[] docs = new Doc[postings.size()];
+            Map<Integer, IntList> building = new HashMap<>();
+            for (int id = 0; id < docs.length; id++) {
+                JobDto job = postings.get(id);
+                Doc old = reusable.get(Doc.keyOf(job));
+                if (old == null) {
+                    docs[id] = new Doc(job);
+                } else {
+                    docs[id] = old.job == job ? old : new Doc(job, old);
+                }
+                for (int g : docs[id].grams) {
+                    building.computeIfAbsent(g, k -> new IntList()).add(id);
+                }
+            }
+
+            Map<Integer, int[]> postingsByGram = new HashMap<>(building.size() * 2);
+            building.forEach((g, list) -> postingsByGram.put(g, list.toArray()));
+            return new Snapshot(docs, postingsByGram, new JobFilterIndex(postings));
+        }
+
+        /** 검색어의 n-gram 포스팅 리스트들 (하나라도 없으면 null) */
+        private int[][] postingsFor(String term) {
+            Set<Integer> grams = new HashSet<>();
+            if (term.length() == 1) {
+                grams.add((int) term.charAt(0));
+            } else {
+                for (int i = 0; i + 1 < term.length(); i++) {
+                    grams.add(gram(term.charAt(i), term.charAt(i + 1)));
+                }
+            }
+            int[][] lists = new int[grams.size()][];
+            int k = 0;
+            for (int g : grams) {
+                int[] list = postings.get(g);
+                if (list == null) {
+                    return null;
+                }
+                lists[k++] = list;
+            }
+            return lists;
+        }
+    }
+
+    /** 포스팅 리스트 생성용 int 배열 (박싱 없이 추가) */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        private int[] toSortedDistinctArray() {
+            int[] sorted = toArray();
+            Arrays.sort(sorted);
+            int n = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[n++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, n);
+        }
+    }
+}
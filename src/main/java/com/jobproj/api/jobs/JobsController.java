@@ -1,6 +1,7 @@
 package com.jobproj.api.jobs;
 
 import com.jobproj.api.common.ApiResponse;
+import com.jobproj.api.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,11 +12,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @RestController
 @RequestMapping("/jobs")
 @RequiredArgsConstructor
@@ -26,6 +34,17 @@ public class JobsController {
 
     private final JobsService jobsService;
     private final GeminiMatchingService geminiMatchingService;
+    private final MatchBatchCollector matchBatchCollector;
+    private final MatchPipeline matchPipeline;
+    private final ResumeInfoService resumeInfoService;
+    private final CurrentUser currentUser;
+
+    @Value("${gemini.stream.timeout-ms:60000}")
+    private long streamTimeoutMs;
+
+    // AI 추천 후보 풀 상한 (기본은 사실상 카탈로그 전체, Gemini 비용은 match.pipeline.top-k 로 제한)
+    @Value("${match.pipeline.max-pool-size:100000}")
+    private int maxPoolSize;
 
     @GetMapping("/recommend")
     @Operation(
@@ -69,17 +88,19 @@ public class JobsController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
         }
     )
-    public ApiResponse<List<JobDto>> recommend(
+    public CompletableFuture<ApiResponse<List<JobDto>>> recommend(
         @Parameter(description = "반환 개수(1~50)", example = "10")
         @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit
     ) {
-        return ApiResponse.ok(jobsService.recommend(limit));
+        return jobsService.recommendAsync(limit).thenApply(ApiResponse::ok);
     }
 
     @GetMapping("/search")
     @Operation(
         summary = "공고 검색(더미)",
-        description = "JobKorea 스타일 파라미터 수용(q/page/size/ob/rbcd/rpcd/area/edu1/edu2/edu3/pay/payterm/ctype/mcareerchk/car1/car2/car_chk/jtype).",
+        description = "JobKorea 스타일 파라미터 수용(q/page/size/ob/rbcd/rpcd/area/edu1/edu2/edu3/pay/payterm/ctype/mcareerchk/car1/car2/car_chk/jtype). "
+            + "ob: 1 등록일순, 2 수정일순, 3 마감임박순, 4 연봉순. area/jtype/rbcd/rpcd 는 쉼표로 여러 값 지정 가능, payterm 은 '최소,최대'(만원). "
+            + "edu1~3, ctype 은 공고 데이터에 해당 정보가 없어 현재 적용되지 않습니다.",
         responses = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                 responseCode = "200", description = "성공",
@@ -145,38 +166,123 @@ public class JobsController {
         @RequestParam(required = false, name = "car_chk") Integer carChk,
         @RequestParam(required = false, name = "jtype") String jtype
     ) {
-        // 더미 구현: 필터는 보관만 하고, 검색은 핵심 파라미터(q, page, size)만 반영
-        return ApiResponse.ok(jobsService.search(q, page, size));
+        // edu1~3, ctype: JobDto 에 학력/기업형태 정보가 없어 적용하지 않음
+        var filter = JobSearchFilter.of(orderBy, area, jtype, rbcd, rpcd, pay, payterm, car1, car2, carChk, mcareerchk);
+        return ApiResponse.ok(jobsService.search(q, filter, page, size));
     }
 
     @PostMapping("/match")
     @Operation(
         summary = "AI 기반 이력서-공고 매칭",
-        description = "Gemini API를 사용하여 이력서 전체 정보와 채용공고의 매칭도를 계산합니다."
+        description = "Gemini API를 사용하여 이력서 전체 정보와 채용공고의 매칭도를 계산합니다. "
+            + "같은 이력서의 동시 단건 요청은 서버에서 짧게 모아 배치로 호출합니다. "
+            + "resumeId 를 주면 resumeInfo 대신 서버에 저장된 내 이력서를 사용합니다."
     )
-    public ApiResponse<GeminiMatchingService.MatchResult> matchWithAI(
+    public CompletableFuture<ApiResponse<GeminiMatchingService.MatchResult>> matchWithAI(
+        @Parameter(description = "내 이력서 ID (주면 본문의 resumeInfo 는 생략)")
+        @RequestParam(required = false) Long resumeId,
         @RequestBody MatchRequest request
     ) {
-        var result = geminiMatchingService.calculateMatchScore(
-            request.getResumeInfo(),
+        return matchBatchCollector.submit(
+            resolveResume(resumeId, request.getResumeInfo()),
             request.getJob()
-        );
-        return ApiResponse.ok(result);
+        ).thenApply(ApiResponse::ok);
     }
 
     @PostMapping("/match/batch")
     @Operation(
         summary = "AI 기반 배치 매칭 (여러 공고)",
-        description = "Gemini API를 사용하여 여러 채용공고를 한 번에 매칭합니다. API 호출 최소화."
+        description = "Gemini API를 사용하여 여러 채용공고를 한 번에 매칭합니다. API 호출 최소화. "
+            + "resumeId 를 주면 resumeInfo 대신 서버에 저장된 내 이력서를 사용합니다."
     )
-    public ApiResponse<List<GeminiMatchingService.MatchResult>> matchBatchWithAI(
+    public CompletableFuture<ApiResponse<List<GeminiMatchingService.MatchResult>>> matchBatchWithAI(
+        @RequestParam(required = false) Long resumeId,
         @RequestBody BatchMatchRequest request
     ) {
-        var results = geminiMatchingService.calculateMatchScoreBatch(
-            request.getResumeInfo(),
+        return geminiMatchingService.calculateMatchScoreBatchAsync(
+            resolveResume(resumeId, request.getResumeInfo()),
             request.getJobs()
-        );
-        return ApiResponse.ok(results);
+        ).thenApply(ApiResponse::ok);
+    }
+
+    @PostMapping(value = "/match/batch/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "AI 기반 배치 매칭 (SSE 스트리밍)",
+        description = "요청 즉시 공고별 기본 매칭 점수(event: quick)를 보내고, "
+            + "Gemini 결과가 청크 단위로 도착할 때마다 최종 점수(event: refined)를 보냅니다. "
+            + "모두 끝나면 event: done 후 연결을 닫습니다. 최종 점수는 /jobs/match/batch 와 같습니다."
+    )
+    public SseEmitter matchBatchStream(
+        @RequestParam(required = false) Long resumeId,
+        @RequestBody BatchMatchRequest request
+    ) {
+        var resumeInfo = resolveResume(resumeId, request.getResumeInfo());
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        List<JobDto> jobs = request.getJobs() != null ? request.getJobs() : List.of();
+
+        // 1차: 기본 매칭 점수는 바로 전송
+        for (int i = 0; i < jobs.size(); i++) {
+            var quick = geminiMatchingService.calculateQuickMatch(resumeInfo, jobs.get(i));
+            sendEvent(emitter, "quick", MatchStreamEvent.builder()
+                .jobIndex(i).stage("quick").result(quick).build());
+        }
+
+        // 2차: Gemini 결과가 확정되는 대로 전송
+        geminiMatchingService.calculateMatchScoreBatchAsync(resumeInfo, jobs, (index, result) ->
+            sendEvent(emitter, "refined", MatchStreamEvent.builder()
+                .jobIndex(index).stage("refined").result(result).build())
+        ).whenComplete((results, error) -> {
+            if (error != null) {
+                log.error("매칭 스트리밍 실패", error);
+                emitter.completeWithError(error);
+                return;
+            }
+            sendEvent(emitter, "done", results.size());
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    @PostMapping("/match/recommend")
+    @Operation(
+        summary = "AI 추천 (로컬 1차 평가 + Gemini 재평가)",
+        description = "후보 공고 전체를 로컬 매칭 엔진으로 평가해 상위 K건만 Gemini 로 재평가하고 순위순으로 반환합니다. "
+            + "jobs 를 주면 그 목록을, 없으면 q 로 검색된 공고 전체(없으면 수집된 공고 전체)를 후보로 사용합니다. "
+            + "Gemini 점수를 받지 못한 공고는 stage=local 로 재평가된 공고 뒤에 붙습니다."
+    )
+    public CompletableFuture<ApiResponse<List<RankedMatch>>> recommendWithAI(
+        @RequestParam(required = false) Long resumeId,
+        @RequestBody RecommendMatchRequest request
+    ) {
+        // 인증 정보가 요청 스레드에만 있으므로 비동기 단계 전에 조립
+        var resumeInfo = resolveResume(resumeId, request.getResumeInfo());
+        int poolLimit = Math.max(1, maxPoolSize);
+        int poolSize = clamp(request.getPoolSize(), poolLimit, 1, poolLimit);
+        int limit = clamp(request.getLimit(), 10, 1, MatchPipeline.MAX_LIMIT);
+
+        List<JobDto> pool = request.getJobs() != null && !request.getJobs().isEmpty()
+            ? request.getJobs()
+            : jobsService.candidates(request.getQ(), poolSize);
+        return matchPipeline.rank(resumeInfo, pool, limit)
+            .thenApply(ApiResponse::ok);
+    }
+
+    private static int clamp(Integer value, int defaultValue, int min, int max) {
+        return value == null ? defaultValue : Math.max(min, Math.min(value, max));
+    }
+
+    /** resumeId 가 있으면 서버에서 조립한 내 이력서 정보(버전별 캐시), 없으면 요청 본문의 resumeInfo */
+    private GeminiMatchingService.ResumeInfo resolveResume(Long resumeId, GeminiMatchingService.ResumeInfo fromBody) {
+        return resumeId != null ? resumeInfoService.get(resumeId, currentUser.id()) : fromBody;
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우: 남은 결과는 캐시에만 반영됨
+            log.debug("매칭 스트리밍 전송 생략({}): {}", name, e.getMessage());
+        }
     }
 
     /**
@@ -192,6 +298,28 @@ public class JobsController {
         public void setJob(JobDto job) { this.job = job; }
     }
 
+    /**
+     * AI 추천(2단계 파이프라인) 요청 DTO
+     */
+    public static class RecommendMatchRequest {
+        private GeminiMatchingService.ResumeInfo resumeInfo;
+        private List<JobDto> jobs;      // 후보 직접 지정 (선택)
+        private String q;               // 후보 검색어 (선택)
+        private Integer poolSize;       // 후보 수 상한 (기본: 전체, 최대 match.pipeline.max-pool-size)
+        private Integer limit;          // 반환 개수 (기본 10, 1~100)
+
+        public GeminiMatchingService.ResumeInfo getResumeInfo() { return resumeInfo; }
+        public void setResumeInfo(GeminiMatchingService.ResumeInfo resumeInfo) { this.resumeInfo = resumeInfo; }
+        public List<JobDto> getJobs() { return jobs; }
+        public void setJobs(List<JobDto> jobs) { this.jobs = jobs; }
+        public String getQ() { return q; }
+        public void setQ(String q) { this.q = q; }
+        public Integer getPoolSize() { return poolSize; }
+        public void setPoolSize(Integer poolSize) { this.poolSize = poolSize; }
+        public Integer getLimit() { return limit; }
+        public void setLimit(Integer limit) { this.limit = limit; }
+    }
+
     /**
      * 2233076 13주차 개선: AI 배치 매칭 요청 DTO (종합 이력서 정보 포함)
      */
@@ -1,115 +1,224 @@
 package com.jobproj.api.jobs;
 
+import com.jobproj.api.repo.JobPostingRepo;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 2233076 13주차 추가
  * JobsService - 잡코리아 API 연동
  *
  * ★★★ 현재 상태: Mock 데이터 사용 중 ★★★
- * - API 키가 있으면 실제 API 호출
- * - API 키가 없으면 Mock 데이터 반환 (테스트용)
+ * - API 키가 있으면 실제 API 에서 공고 수집
+ * - API 키가 없으면 Mock 데이터로 카탈로그 구성 (테스트용)
+ * - 추천/검색은 주기적으로 수집한 카탈로그 스냅샷(JobCatalog)만 읽음 (요청마다 잡코리아 호출 X)
+ * - 수집한 실제 공고는 jobproject_job_posting 에도 업서트, 마감 지난 공고는 비활성화
  *
  * ★★★ API 연결 시 작업 필요 ★★★
  * 1. application.yml에 실제 API URL과 키 설정
- * 2. parseJobkoreaXmlResponse() 메서드에 XML 파싱 로직 구현
+ * 2. 실제 응답으로 JobKoreaXmlParser 필드 매핑(GI_Subject, C_Name, AreaName 등) 확인
  * 3. search() 메서드를 실제 검색 API로 교체
  * 4. generateMockData() 메서드 삭제
  * 5. 모든 "★★★ API 연결 시 삭제" 주석이 달린 코드 제거
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class JobsService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final JobKoreaClient jobKoreaClient;
+    private final JobCatalog catalog;
+    private final JobSearchIndex searchIndex;
+    private final JobPostingRepo jobPostingRepo;
 
-    @Value("${jobkorea.api.url:}")
-    private String apiUrl;
+    @Value("${jobkorea.ingest.page-size:50}")
+    private int ingestPageSize;
 
-    @Value("${jobkorea.api.key:}")
-    private String apiKey;
+    @Value("${jobkorea.ingest.max-pages:20}")
+    private int ingestMaxPages;
 
-    @Value("${jobkorea.api.default-keywords:Java,Spring,백엔드}")
-    private String defaultKeywords;
+    // 첫 적재를 요청 스레드가 기다리는 최대 시간 (넘으면 현재 스냅샷으로 응답)
+    @Value("${jobkorea.ingest.first-load-wait-ms:3000}")
+    private long firstLoadWaitMs;
+
+    // 첫 카탈로그 적재 (한 번만 만들어지고, 첫 수집 전에 들어온 요청은 모두 이것을 기다림)
+    private final AtomicReference<CompletableFuture<Void>> firstLoad = new AtomicReference<>();
 
     /**
-     * 추천 공고 조회
+     * 추천 공고 조회 (카탈로그 앞부분)
      */
     public List<JobDto> recommend(int limit) {
         int safeLimit = Math.max(1, Math.min(limit, 50));
+        List<JobDto> postings = currentPostings();
+        return postings.size() > safeLimit ? postings.subList(0, safeLimit) : postings;
+    }
+
+    /**
+     * 추천 공고 비동기 조회 - 카탈로그에서 바로 읽으므로 즉시 완료된다.
+     */
+    public CompletableFuture<List<JobDto>> recommendAsync(int limit) {
+        return CompletableFuture.completedFuture(recommend(limit));
+    }
 
-        if (isApiConfigured()) {
-            log.info("잡코리아 실제 API 호출 - limit: {}", safeLimit);
-            return callRealJobkoreaApi(defaultKeywords, safeLimit);
-        } else {
-            log.info("잡코리아 Mock 데이터 반환 - limit: {}", safeLimit);
-            // ★★★ API 연결 시 삭제: Mock 데이터 반환 로직 ★★★
-            return generateMockData(safeLimit);
+    /**
+     * 추천 파이프라인 후보: 카탈로그 스냅샷 전체 (q 가 있으면 색인 검색에 걸린 공고 전체)
+     * - maxSize 를 넘으면 앞에서부터 maxSize 건 (스냅샷 목록을 복사하지 않음)
+     */
+    public List<JobDto> candidates(String q, int maxSize) {
+        int safeMax = Math.max(1, maxSize);
+        List<JobDto> postings = currentPostings();
+        if (q == null || q.isBlank()) {
+            return postings.size() > safeMax ? postings.subList(0, safeMax) : postings;
         }
+        return searchIndex.search(q, 0, safeMax).content();
     }
 
-    private boolean isApiConfigured() {
-        return apiUrl != null && !apiUrl.isBlank()
-            && apiKey != null && !apiKey.isBlank();
+    /**
+     * 공고 수집: 페이지 단위로 가져와 새 카탈로그 스냅샷으로 교체
+     * - 수집에 실패하면 기존 스냅샷 유지
+     */
+    @Scheduled(
+        fixedDelayString = "${jobkorea.ingest.interval-ms:600000}",
+        initialDelayString = "${jobkorea.ingest.initial-delay-ms:0}"
+    )
+    public synchronized void refreshCatalog() {
+        if (!jobKoreaClient.isApiConfigured()) {
+            // ★★★ API 연결 시 삭제: Mock 데이터로 카탈로그 구성 ★★★
+            if (!catalog.isLoaded()) {
+                catalog.publish(generateMockData(50));
+                log.info("잡코리아 Mock 카탈로그 반영 - {}건", 50);
+            }
+            return;
+        }
+
+        int pageSize = Math.max(1, ingestPageSize);
+        Map<String, JobDto> collected = new LinkedHashMap<>();
+        try {
+            for (int page = 1; page <= Math.max(1, ingestMaxPages); page++) {
+                // 페이지마다 본문까지 page-timeout-ms 로 제한되므로 join 도 그 안에 끝남
+                List<JobDto> items = jobKoreaClient.fetchPage(page, pageSize).join();
+                for (JobDto job : items) {
+                    // 같은 공고가 여러 페이지에 걸쳐 나오면 먼저 나온 것 유지
+                    collected.putIfAbsent(postingKey(job), job);
+                }
+                if (items.size() < pageSize) {
+                    break; // 마지막 페이지
+                }
+            }
+        } catch (Exception e) {
+            log.error("잡코리아 공고 수집 실패, 기존 카탈로그 유지 ({}건)", catalog.snapshot().postings().size(), e);
+            if (!catalog.isLoaded()) {
+                // ★★★ API 연결 시 삭제: 첫 수집 실패 시 Mock 데이터로 폴백 ★★★
+                catalog.publish(generateMockData(50));
+            }
+            return;
+        }
+
+        List<JobDto> postings = new ArrayList<>(collected.values());
+        catalog.publish(postings);
+        log.info("잡코리아 공고 카탈로그 갱신 - {}건", postings.size());
+        persist(postings);
     }
 
-    private List<JobDto> callRealJobkoreaApi(String keywords, int limit) {
+    /**
+     * 수집 공고 DB 반영 (배치 업서트 + 마감 공고 비활성화)
+     * - DB 반영에 실패해도 카탈로그는 이미 교체됐으므로 다음 수집 때 다시 시도
+     */
+    private void persist(List<JobDto> postings) {
         try {
-            String requestUrl = String.format(
-                "%s?size=%d&keyword=%s&rbcd=10007&ob=2",
-                apiUrl, limit, keywords
-            );
-            log.info("잡코리아 API 요청: {}", requestUrl);
-            String response = restTemplate.getForObject(requestUrl, String.class);
-            return parseJobkoreaXmlResponse(response);
+            int upserted = jobPostingRepo.upsertAll(postings);
+            int deactivated = jobPostingRepo.deactivateExpired();
+            log.info("잡코리아 공고 DB 반영 - 업서트 {}건, 마감 비활성화 {}건", upserted, deactivated);
         } catch (Exception e) {
-            log.error("잡코리아 API 호출 실패, Mock 데이터로 대체", e);
-            // ★★★ API 연결 시 삭제: Mock 데이터로 폴백 ★★★
-            return generateMockData(limit);
+            log.warn("잡코리아 공고 DB 반영 실패 ({}건)", postings.size(), e);
         }
     }
 
-    private List<JobDto> parseJobkoreaXmlResponse(String xmlResponse) {
-        // ★★★ API 연결 시 수정 필요: XML 파싱 로직 구현 ★★★
-        log.warn("XML 파싱 미구현, Mock 데이터 반환");
-        return generateMockData(10);
+    private List<JobDto> currentPostings() {
+        if (!catalog.isLoaded()) {
+            awaitFirstLoad(); // 첫 수집 전에 들어온 요청
+        }
+        return catalog.snapshot().postings();
+    }
+
+    /**
+     * 첫 적재를 한 번만 (별도 스레드에서) 수행하고, 요청은 first-load-wait-ms 까지만 기다림
+     * - 요청 스레드는 수집을 직접 돌리지 않음 (이후 갱신은 스케줄러만)
+     * - 스케줄러가 이미 수집 중이면 끝난 뒤 isLoaded() 를 다시 확인하므로 중복 수집 없음
+     * - 기다리다 시간이 지나면 현재 스냅샷(아직 비어 있을 수 있음)으로 응답
+     */
+    private void awaitFirstLoad() {
+        CompletableFuture<Void> load = firstLoad.get();
+        if (load == null) {
+            CompletableFuture<Void> mine = new CompletableFuture<>();
+            if (firstLoad.compareAndSet(null, mine)) {
+                Thread loader = new Thread(() -> {
+                    try {
+                        loadIfAbsent();
+                    } finally {
+                        // 실패해도 완료 처리 (재시도는 스케줄러가)
+                        mine.complete(null);
+                    }
+                }, "job-catalog-first-load");
+                loader.setDaemon(true);
+                loader.start();
+            }
+            load = firstLoad.get();
+        }
+        try {
+            load.get(firstLoadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("첫 공고 카탈로그 적재 대기 시간({}ms) 초과, 현재 스냅샷으로 응답", firstLoadWaitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // mine 은 예외로 완료되지 않음
+            log.warn("첫 공고 카탈로그 적재 실패", e);
+        }
+    }
+
+    private synchronized void loadIfAbsent() {
+        if (!catalog.isLoaded()) {
+            refreshCatalog();
+        }
+    }
+
+    private static String postingKey(JobDto job) {
+        return job.getGiNo() != null ? "GI:" + job.getGiNo() : "ID:" + job.getId();
     }
 
     public JobSearchResponse search(String q, int page, int size) {
+        return search(q, JobSearchFilter.NONE, page, size);
+    }
+
+    /**
+     * 검색 + 잡코리아 스타일 필터/정렬 (색인 기반)
+     */
+    public JobSearchResponse search(String q, JobSearchFilter filter, int page, int size) {
         int safeSize = Math.max(1, Math.min(size, 50));
         int safePage = Math.max(0, page);
 
         // ★★★ API 연결 시 수정 필요: 실제 검색 API 호출로 교체 ★★★
-        var pool = recommend(50);
-
-        List<JobDto> filtered;
-        if (q == null || q.isBlank()) {
-            filtered = pool;
-        } else {
-            String term = q.toLowerCase();
-            filtered = pool.stream()
-                .filter(j ->
-                    (j.getTitle() != null && j.getTitle().toLowerCase().contains(term)) ||
-                    (j.getCompany() != null && j.getCompany().toLowerCase().contains(term)) ||
-                    (j.getLocation() != null && j.getLocation().toLowerCase().contains(term)) ||
-                    (j.getTags() != null && j.getTags().stream().anyMatch(
-                        t -> t != null && t.toLowerCase().contains(term)
-                    ))
-                )
-                .toList();
-        }
+        currentPostings(); // 색인은 카탈로그 반영 시 함께 갱신됨
 
-        int total = filtered.size();
-        int from = Math.min(safePage * safeSize, total);
-        int to = Math.min(from + safeSize, total);
-        var slice = (from >= to) ? List.<JobDto>of() : filtered.subList(from, to);
+        // 제목/회사/근무지/태그 부분 일치 (역색인) + 필터/정렬, 요청한 페이지 구간만 꺼냄
+        int offset = (int) Math.min((long) safePage * safeSize, Integer.MAX_VALUE);
+        var result = searchIndex.search(q, filter, offset, safeSize);
+        int total = result.total();
         int totalPages = (int) Math.ceil(total / (double) safeSize);
 
         return JobSearchResponse.builder()
@@ -117,7 +226,7 @@ public class JobsService {
             .totalPages(totalPages)
             .page(safePage)
             .size(safeSize)
-            .content(slice)
+            .content(result.content())
             .build();
     }
 
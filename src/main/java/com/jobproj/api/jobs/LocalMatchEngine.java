@@ -0,0 +1,299 @@
+package com.jobproj.api.jobs;
+
+import com.jobproj.api.jobs.GeminiMatchingService.EducationInfo;
+import com.jobproj.api.jobs.GeminiMatchingService.MatchResult;
+import com.jobproj.api.jobs.GeminiMatchingService.ResumeInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로컬 매칭 엔진 (Gemini 없이 서버 안에서 계산)
+ * - Gemini 프롬프트와 같은 기준/가중치: 스킬 40, 학력 20, 경력 30, 기타(지역) 10
+ * - 스킬은 정규화 + 동의어 표로 비교 (Spring Boot = Spring, MariaDB = MySQL 등)
+ * - 입력이 같으면 항상 같은 결과(결정적), 외부 호출 없음
+ * - 많은 공고를 평가할 때는 prepare() 로 이력서 쪽을 한 번만 정규화해서 재사용
+ */
+@Component
+public class LocalMatchEngine {
+
+    /** 정규화된 별칭 -> 대표 토큰 */
+    private static final Map<String, String> ALIASES = new HashMap<>();
+
+    static {
+        alias("spring", "springboot", "springframework", "springmvc", "스프링", "스프링부트");
+        alias("java", "자바", "java8", "java11", "java17", "java21");
+        alias("mysql", "mariadb");
+        alias("postgresql", "postgres", "포스트그레스");
+        alias("oracle", "oracledb", "오라클");
+        alias("jpa", "hibernate", "springdatajpa");
+        alias("javascript", "js", "ecmascript", "es6", "자바스크립트");
+        alias("typescript", "ts", "타입스크립트");
+        alias("nodejs", "node");
+        alias("react", "reactjs", "리액트");
+        alias("vue", "vuejs");
+        alias("nextjs", "next");
+        alias("python", "파이썬", "python3");
+        alias("django", "장고");
+        alias("kotlin", "코틀린");
+        alias("go", "golang");
+        alias("csharp", "c#");
+        alias("cpp", "c++");
+        alias("kubernetes", "k8s", "쿠버네티스");
+        alias("docker", "도커");
+        alias("aws", "amazonwebservices", "아마존웹서비스");
+        alias("gcp", "googlecloud", "googlecloudplatform");
+        alias("redis", "레디스");
+        alias("kafka", "apachekafka", "카프카");
+        alias("git", "github", "gitlab");
+        alias("linux", "리눅스", "ubuntu", "centos");
+        alias("restapi", "rest", "restful", "restfulapi");
+        alias("cicd", "ci", "jenkins", "githubactions");
+    }
+
+    private static void alias(String canonical, String... aliases) {
+        ALIASES.put(canonical, canonical);
+        for (String a : aliases) {
+            ALIASES.put(a, canonical);
+        }
+    }
+
+    /**
+     * 단건 평가
+     */
+    public MatchResult score(ResumeInfo resume, JobDto job) {
+        return score(prepare(resume), job);
+    }
+
+    /**
+     * 이력서 쪽 정규화 결과 (공고 여러 건 평가 시 재사용)
+     */
+    public Profile prepare(ResumeInfo resume) {
+        Set<String> skills = new LinkedHashSet<>();
+        if (resume != null && resume.getSkills() != null) {
+            for (String s : resume.getSkills()) {
+                String token = canonical(s);
+                if (!token.isEmpty()) {
+                    skills.add(token);
+                }
+            }
+        }
+        int careerMonths = resume != null ? GeminiMatchingService.totalCareerMonths(resume.getExperiences()) : 0;
+        int educationScore = resume != null ? educationScore(resume.getEducations()) : 50;
+        String location = resume != null ? compact(resume.getPreferredLocation()) : "";
+        return new Profile(skills, careerMonths, educationScore, location);
+    }
+
+    public MatchResult score(Profile profile, JobDto job) {
+        List<String> strengths = new ArrayList<>();
+        List<String> weaknesses = new ArrayList<>();
+
+        // 1. 스킬 (40)
+        List<String> tags = job.getTags() != null ? job.getTags() : List.of();
+        List<String> matched = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String tag : tags) {
+            String token = canonical(tag);
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (profile.skills().contains(token)) {
+                matched.add(tag);
+            } else {
+                missing.add(tag);
+            }
+        }
+        int tagCount = matched.size() + missing.size();
+        int skillMatch = tagCount == 0 ? 50 : Math.round(matched.size() * 100f / tagCount);
+        if (!matched.isEmpty()) {
+            strengths.add("보유 기술 일치: " + String.join(", ", matched));
+        }
+        if (!missing.isEmpty()) {
+            weaknesses.add("부족한 기술: " + String.join(", ", missing));
+        }
+
+        // 2. 학력 (20) - 공고에 학력 요구사항이 없으므로 최종 학력/전공 관련도로 평가
+        int educationMatch = profile.educationScore();
+
+        // 3. 경력 (30)
+        int careerMatch = careerScore(profile.careerMonths(), job.getExperience());
+        if (job.getExperience() != null) {
+            if (careerMatch >= 100) {
+                strengths.add("경력 요건 충족 (" + careerText(profile.careerMonths()) + ")");
+            } else if (profile.careerMonths() < minMonths(job.getExperience())) {
+                weaknesses.add("경력 부족 (" + careerText(profile.careerMonths()) + ")");
+            }
+        }
+
+        // 4. 기타 (10) - 희망 근무지
+        int otherMatch = locationScore(profile.location(), compact(job.getLocation()));
+
+        int matchScore = Math.round(skillMatch * 0.4f + educationMatch * 0.2f
+            + careerMatch * 0.3f + otherMatch * 0.1f);
+        String summary = String.format("로컬 매칭: 스킬 %d/%d 일치, 경력 %s",
+            matched.size(), tagCount, careerText(profile.careerMonths()));
+
+        return new MatchResult(matchScore, skillMatch, educationMatch, careerMatch, otherMatch,
+            summary, strengths, weaknesses);
+    }
+
+    /**
+     * 스킬 토큰 정규화: 소문자, 공백/구두점 제거 후 동의어 표로 대표 토큰 변환
+     * ("Spring Boot" -> "spring", "React.js" -> "react", "C++" -> "cpp")
+     */
+    static String canonical(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '#' || c == '+') {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        String token = sb.toString();
+        String mapped = ALIASES.get(token);
+        if (mapped != null) {
+            return mapped;
+        }
+        if (token.length() > 2 && token.endsWith("js")) {
+            // expressjs = express, nestjs = nest
+            String base = token.substring(0, token.length() - 2);
+            return ALIASES.getOrDefault(base, base);
+        }
+        return token;
+    }
+
+    private static int educationScore(List<EducationInfo> educations) {
+        if (educations == null || educations.isEmpty()) {
+            return 50;
+        }
+        int best = 50;
+        for (EducationInfo edu : educations) {
+            String degree = edu.getDegree() != null ? edu.getDegree().toLowerCase(Locale.ROOT) : "";
+            int score;
+            if (degree.contains("박사") || degree.contains("phd") || degree.contains("doctor")) {
+                score = 95;
+            } else if (degree.contains("석사") || degree.contains("master")) {
+                score = 90;
+            } else if (degree.contains("전문학사") || degree.contains("associate")) {
+                score = 70;
+            } else if (degree.contains("학사") || degree.contains("bachelor") || degree.contains("대학")) {
+                score = 80;
+            } else if (degree.contains("고졸") || degree.contains("고등")) {
+                score = 60;
+            } else {
+                score = 65;
+            }
+            if (isRelatedMajor(edu.getMajor())) {
+                score += 10;
+            }
+            best = Math.max(best, Math.min(100, score));
+        }
+        return best;
+    }
+
+    private static boolean isRelatedMajor(String major) {
+        if (major == null) {
+            return false;
+        }
+        String m = major.toLowerCase(Locale.ROOT);
+        return m.contains("컴퓨터") || m.contains("소프트웨어") || m.contains("정보") || m.contains("전산")
+            || m.contains("전자") || m.contains("데이터") || m.contains("인공지능")
+            || m.contains("computer") || m.contains("software");
+    }
+
+    /**
+     * 경력 레벨별 기대 경력(개월) 범위
+     */
+    private static int minMonths(ExperienceLevel level) {
+        return switch (level) {
+            case INTERN, ENTRY -> 0;
+            case JUNIOR -> 12;
+            case MID -> 36;
+            case SENIOR -> 84;
+            case LEAD -> 120;
+        };
+    }
+
+    private static int maxMonths(ExperienceLevel level) {
+        return switch (level) {
+            case INTERN -> 6;
+            case ENTRY -> 12;
+            case JUNIOR -> 48;
+            case MID -> 96;
+            case SENIOR, LEAD -> Integer.MAX_VALUE;
+        };
+    }
+
+    private static int careerScore(int months, ExperienceLevel level) {
+        if (level == null) {
+            return 100; // 경력 무관
+        }
+        int min = minMonths(level);
+        if (months < min) {
+            // 부족한 1개월당 2점 감점 (최소 20)
+            return Math.max(20, 100 - (min - months) * 2);
+        }
+        if (months > maxMonths(level)) {
+            return 85; // 요구 수준보다 경력이 많음
+        }
+        return 100;
+    }
+
+    private static int locationScore(String preferred, String jobLocation) {
+        if (jobLocation.contains("재택") || jobLocation.contains("원격") || jobLocation.contains("remote")) {
+            return 100;
+        }
+        if (preferred.isEmpty() || jobLocation.isEmpty()) {
+            return 50; // 정보 없음
+        }
+        if (jobLocation.contains(preferred) || preferred.contains(jobLocation)) {
+            return 100;
+        }
+        // 시/도 단위(앞 2글자: 서울, 경기, 부산 ...)만 같아도 일부 인정
+        if (preferred.length() >= 2 && jobLocation.length() >= 2
+            && preferred.regionMatches(0, jobLocation, 0, 2)) {
+            return 80;
+        }
+        return 20;
+    }
+
+    private static String compact(String s) {
+        if (s == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String careerText(int months) {
+        if (months == 0) {
+            return "신입";
+        }
+        int years = months / 12;
+        int rest = months % 12;
+        if (years == 0) {
+            return rest + "개월";
+        }
+        return rest == 0 ? years + "년" : years + "년 " + rest + "개월";
+    }
+
+    /**
+     * 정규화된 이력서 정보
+     */
+    public record Profile(Set<String> skills, int careerMonths, int educationScore, String location) {}
+}
@@ -0,0 +1,151 @@
+package com.jobproj.api.jobs;
+
+import com.jobproj.api.jobs.GeminiMatchingService.MatchResult;
+import com.jobproj.api.jobs.GeminiMatchingService.ResumeInfo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단건 매칭(/jobs/match) 마이크로 배칭
+ * - 같은 이력서로 들어온 단건 요청을 window-ms 동안 모으거나 max-size 가 차면
+ *   calculateMatchScoreBatch 한 번으로 보내고, 결과를 각 호출자에게 나눠준다.
+ * - 캐시에 있는 조합은 기다리지 않고 바로 반환.
+ */
+@Slf4j
+@Component
+public class MatchBatchCollector {
+
+    private final GeminiMatchingService matchingService;
+    private final DistributionSummary batchSizes;
+    private final Map<String, Bucket> buckets = new HashMap<>();
+
+    private final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(daemonThreads("match-batch-timer"));
+
+    @Value("${gemini.batch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gemini.batch.window-ms:30}")
+    private long windowMs;
+
+    @Value("${gemini.batch.max-size:10}")
+    private int maxBatchSize;
+
+    public MatchBatchCollector(GeminiMatchingService matchingService, MeterRegistry meterRegistry) {
+        this.matchingService = matchingService;
+        this.batchSizes = meterRegistry.summary("gemini.batch.size");
+    }
+
+    /**
+     * 단건 매칭 요청 등록. 배치가 flush 되면 future 가 완료된다.
+     */
+    public CompletableFuture<MatchResult> submit(ResumeInfo resume, JobDto job) {
+        if (!enabled || maxBatchSize <= 1 || !matchingService.isApiConfigured()) {
+            return matchingService.calculateMatchScoreAsync(resume, job);
+        }
+        MatchResult cached = matchingService.findCached(resume, job);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        String key = MatchKeys.ofResume(resume);
+        Pending pending = new Pending(job, new CompletableFuture<>());
+        Bucket full = null;
+
+        synchronized (buckets) {
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(resume));
+            bucket.items.add(pending);
+            if (bucket.items.size() >= maxBatchSize) {
+                buckets.remove(key);
+                full = bucket;
+            } else if (bucket.items.size() == 1) {
+                Bucket target = bucket;
+                bucket.timer = scheduler.schedule(
+                    () -> flushByTimer(key, target), windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (full != null) {
+            // 배치를 채운 호출자가 직접 flush (비동기 전송이라 호출 스레드는 바로 반환됨)
+            if (full.timer != null) {
+                full.timer.cancel(false);
+            }
+            flush(full);
+        }
+        return pending.result();
+    }
+
+    private void flushByTimer(String key, Bucket bucket) {
+        synchronized (buckets) {
+            if (!buckets.remove(key, bucket)) {
+                return; // 이미 크기 조건으로 flush 됨
+            }
+        }
+        flush(bucket); // 비동기 전송이므로 타이머 스레드에서 바로 보내도 됨
+    }
+
+    private void flush(Bucket bucket) {
+        List<JobDto> jobs = new ArrayList<>(bucket.items.size());
+        for (Pending p : bucket.items) {
+            jobs.add(p.job());
+        }
+        batchSizes.record(jobs.size());
+        log.debug("단건 매칭 {}건을 배치로 전송", jobs.size());
+
+        matchingService.calculateMatchScoreBatchAsync(bucket.resume, jobs)
+            .whenComplete((results, error) -> {
+                if (error != null) {
+                    log.error("마이크로 배치 매칭 실패", error);
+                    for (Pending p : bucket.items) {
+                        p.result().completeExceptionally(error);
+                    }
+                    return;
+                }
+                for (int i = 0; i < bucket.items.size(); i++) {
+                    bucket.items.get(i).result().complete(results.get(i));
+                }
+            });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static final class Bucket {
+        private final ResumeInfo resume;
+        private final List<Pending> items = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+
+        private Bucket(ResumeInfo resume) {
+            this.resume = resume;
+        }
+    }
+
+    private record Pending(JobDto job, CompletableFuture<MatchResult> result) {}
+}
@@ -0,0 +1,114 @@
+package com.jobproj.api.jobs;
+
+import com.jobproj.api.jobs.GeminiMatchingService.EducationInfo;
+import com.jobproj.api.jobs.GeminiMatchingService.ExperienceInfo;
+import com.jobproj.api.jobs.GeminiMatchingService.ResumeInfo;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 매칭 결과 캐시 키 생성기
+ * - 이력서(스킬/학력/경력) + 공고(제목/회사/태그/위치/경력) 를 정규화한 뒤 SHA-256 으로 해시
+ * - 순서/대소문자/앞뒤 공백이 달라도 같은 내용이면 같은 키가 나온다.
+ * - 이름은 키에 넣지 않으므로 Gemini 프롬프트에도 넣지 않는다 (키에 없는 값이 결과에 섞이지 않도록)
+ */
+final class MatchKeys {
+
+    private MatchKeys() {}
+
+    /** 이력서 + 공고 1건 조합의 캐시 키 (이력서 지문 + 공고) */
+    static String of(ResumeInfo resume, JobDto job) {
+        return sha256(ofResume(resume) + "\n#\n" + normalizeJob(job));
+    }
+
+    /**
+     * 이력서만의 정규화 지문 (같은 이력서 요청끼리 묶을 때 사용)
+     * - 서버에서 조립한 ResumeInfo 는 미리 계산한 지문을 그대로 사용
+     */
+    static String ofResume(ResumeInfo resume) {
+        if (resume != null && resume.fingerprint() != null) {
+            return resume.fingerprint();
+        }
+        return sha256(normalizeResume(resume));
+    }
+
+    static String sha256(String text) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 에서 SHA-256 은 필수 지원 알고리즘
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String normalizeResume(ResumeInfo resume) {
+        if (resume == null) {
+            return "";
+        }
+        List<String> educations = new ArrayList<>();
+        if (resume.getEducations() != null) {
+            for (EducationInfo edu : resume.getEducations()) {
+                if (edu == null) continue;
+                educations.add(String.join("|",
+                    norm(edu.getSchoolName()), norm(edu.getMajor()), norm(edu.getDegree()),
+                    String.valueOf(edu.getStartDate()), String.valueOf(edu.getEndDate())));
+            }
+        }
+        List<String> experiences = new ArrayList<>();
+        if (resume.getExperiences() != null) {
+            for (ExperienceInfo exp : resume.getExperiences()) {
+                if (exp == null) continue;
+                experiences.add(String.join("|",
+                    norm(exp.getCompanyName()), norm(exp.getPositionTitle()),
+                    String.valueOf(exp.getStartDate()), String.valueOf(exp.getEndDate()),
+                    String.valueOf(Boolean.TRUE.equals(exp.getIsCurrent()))));
+            }
+        }
+        return "S:" + normSorted(resume.getSkills())
+            + "\nE:" + sortedJoin(educations)
+            + "\nX:" + sortedJoin(experiences);
+    }
+
+    private static String normalizeJob(JobDto job) {
+        if (job == null) {
+            return "";
+        }
+        return String.join("|",
+            norm(job.getTitle()),
+            norm(job.getCompany()),
+            norm(job.getLocation()),
+            String.valueOf(job.getExperience()),
+            normSorted(job.getTags()));
+    }
+
+    private static String normSorted(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        List<String> list = new ArrayList<>(values.size());
+        for (String v : values) {
+            String n = norm(v);
+            if (!n.isEmpty() && !list.contains(n)) {
+                list.add(n);
+            }
+        }
+        return sortedJoin(list);
+    }
+
+    private static String sortedJoin(List<String> values) {
+        values.sort(null);
+        return String.join(",", values);
+    }
+
+    private static String norm(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,173 @@
+package com.jobproj.api.jobs;
+
+import com.jobproj.api.jobs.GeminiMatchingService.MatchResult;
+import com.jobproj.api.jobs.GeminiMatchingService.ResumeInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2단계 추천 파이프라인
+ * - 1단계(local): 후보 전체를 LocalMatchEngine 으로 평가해 상위 max(top-k, limit) 건만 남김
+ * - 2단계(rerank): 남은 후보만 Gemini 배치 매칭으로 재평가 후 재정렬, 상위 limit 건 반환
+ *   (limit 보다 넓게 뽑아 두므로 로컬 순위가 limit 밖이던 공고도 재평가로 올라올 수 있음)
+ * - Gemini 비용은 top-k 로만 제한되므로 후보 풀은 카탈로그 전체여도 됨 (로컬 평가는 local-timeout-ms 로 제한)
+ * - 단계별 제한 시간을 넘기면 그때까지의 결과로 진행 (rerank 실패/초과 시 로컬 점수 유지)
+ * - 일부만 재평가된 경우 두 점수 척도를 섞어 정렬하지 않음:
+ *   Gemini 점수를 받은 공고(stage=rerank)를 먼저 Gemini 점수순으로, 나머지(stage=local)는 그 뒤에 로컬 순서대로
+ * - /actuator/metrics/match.pipeline.latency (stage=local|rerank|total), match.pipeline.rerank.fallback
+ */
+@Slf4j
+@Component
+public class MatchPipeline {
+
+    /** 최종 반환 개수 상한 (다른 목록 API 와 같은 1~100) */
+    static final int MAX_LIMIT = 100;
+
+    private final LocalMatchEngine localMatchEngine;
+    private final GeminiMatchingService geminiMatchingService;
+
+    private final Timer localTimer;
+    private final Timer rerankTimer;
+    private final Timer totalTimer;
+    private final Counter rerankFallbacks;
+
+    @Value("${match.pipeline.top-k:10}")
+    private int topK;
+
+    @Value("${match.pipeline.local-timeout-ms:200}")
+    private long localTimeoutMs;
+
+    @Value("${match.pipeline.rerank-timeout-ms:20000}")
+    private long rerankTimeoutMs;
+
+    public MatchPipeline(
+        LocalMatchEngine localMatchEngine,
+        GeminiMatchingService geminiMatchingService,
+        MeterRegistry meterRegistry
+    ) {
+        this.localMatchEngine = localMatchEngine;
+        this.geminiMatchingService = geminiMatchingService;
+        this.localTimer = meterRegistry.timer("match.pipeline.latency", "stage", "local");
+        this.rerankTimer = meterRegistry.timer("match.pipeline.latency", "stage", "rerank");
+        this.totalTimer = meterRegistry.timer("match.pipeline.latency", "stage", "total");
+        this.rerankFallbacks = meterRegistry.counter("match.pipeline.rerank.fallback");
+    }
+
+    /**
+     * @param limit 최종 반환 개수 (1~100, 재평가 후보 수는 max(top-k, limit))
+     */
+    public CompletableFuture<List<RankedMatch>> rank(ResumeInfo resume, List<JobDto> pool, int limit) {
+        long started = System.nanoTime();
+        int n = Math.max(1, Math.min(limit, MAX_LIMIT));
+        int k = Math.max(n, topK);
+
+        // 1단계: 로컬 점수로 후보 축소
+        List<Candidate> shortlist = localStage(resume, pool, k);
+        localTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        if (shortlist.isEmpty() || !geminiMatchingService.isApiConfigured()) {
+            totalTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return CompletableFuture.completedFuture(toRanked(List.of(), first(shortlist, n)));
+        }
+
+        // 2단계: 상위 k 건만 Gemini 로 재평가한 뒤 limit 건으로 자름
+        long rerankStarted = System.nanoTime();
+        List<JobDto> jobs = shortlist.stream().map(Candidate::job).toList();
+        return geminiMatchingService.scoreWithGeminiAsync(resume, jobs)
+            .orTimeout(rerankTimeoutMs, TimeUnit.MILLISECONDS)
+            .handle((results, error) -> {
+                rerankTimer.record(System.nanoTime() - rerankStarted, TimeUnit.NANOSECONDS);
+                List<RankedMatch> ranked;
+                if (error != null) {
+                    log.warn("추천 재평가(rerank) 실패, 로컬 점수로 대체: {}", error.toString());
+                    rerankFallbacks.increment();
+                    ranked = toRanked(first(shortlist, n), List.of());
+                } else {
+                    // Gemini 점수를 받은 공고만 Gemini 점수로 정렬, 못 받은 공고는 로컬 순서 그대로 뒤에 둠
+                    List<Candidate> reranked = new ArrayList<>(shortlist.size());
+                    List<Candidate> unscored = new ArrayList<>();
+                    for (int i = 0; i < shortlist.size(); i++) {
+                        MatchResult result = results.get(i);
+                        if (result != null) {
+                            reranked.add(new Candidate(i, shortlist.get(i).job(), result));
+                        } else {
+                            unscored.add(shortlist.get(i));
+                        }
+                    }
+                    if (!unscored.isEmpty()) {
+                        log.warn("추천 재평가 일부 실패: {}/{}건은 로컬 점수 유지", unscored.size(), shortlist.size());
+                        rerankFallbacks.increment();
+                    }
+                    reranked.sort(BY_SCORE);
+                    ranked = toRanked(first(reranked, n), first(unscored, n - Math.min(n, reranked.size())));
+                }
+                totalTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                return ranked;
+            });
+    }
+
+    private List<Candidate> localStage(ResumeInfo resume, List<JobDto> pool, int k) {
+        if (pool == null || pool.isEmpty()) {
+            return List.of();
+        }
+        LocalMatchEngine.Profile profile = localMatchEngine.prepare(resume);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(localTimeoutMs);
+
+        // 상위 k 건만 유지 (루트 = 남은 후보 중 가장 낮은 순위) -> 풀이 카탈로그 전체여도 정렬/보관은 k 건
+        PriorityQueue<Candidate> top = new PriorityQueue<>(k + 1, BY_SCORE.reversed());
+        for (int i = 0; i < pool.size(); i++) {
+            // 제한 시간 확인은 일정 간격으로만 (nanoTime 호출 비용 절감)
+            if ((i & 255) == 255 && System.nanoTime() > deadline) {
+                log.warn("로컬 1차 평가 제한 시간 초과: {}/{}건만 평가", i, pool.size());
+                break;
+            }
+            top.add(new Candidate(i, pool.get(i), localMatchEngine.score(profile, pool.get(i))));
+            if (top.size() > k) {
+                top.poll();
+            }
+        }
+        List<Candidate> shortlist = new ArrayList<>(top);
+        shortlist.sort(BY_SCORE);
+        return shortlist;
+    }
+
+    private static List<Candidate> first(List<Candidate> candidates, int n) {
+        return candidates.size() > n ? candidates.subList(0, n) : candidates;
+    }
+
+    /** Gemini 로 재평가된 후보를 먼저, 로컬 점수만 있는 후보를 그 뒤에 순위를 매김 (공고마다 실제 출처 표시) */
+    private static List<RankedMatch> toRanked(List<Candidate> reranked, List<Candidate> local) {
+        List<RankedMatch> ranked = new ArrayList<>(reranked.size() + local.size());
+        addRanked(ranked, reranked, "rerank");
+        addRanked(ranked, local, "local");
+        return ranked;
+    }
+
+    private static void addRanked(List<RankedMatch> ranked, List<Candidate> candidates, String stage) {
+        for (Candidate c : candidates) {
+            ranked.add(RankedMatch.builder()
+                .rank(ranked.size() + 1)
+                .job(c.job())
+                .result(c.result())
+                .stage(stage)
+                .build());
+        }
+    }
+
+    /** 점수 내림차순, 동점이면 입력 순서 */
+    private static final Comparator<Candidate> BY_SCORE =
+        Comparator.comparingInt((Candidate c) -> c.result().getMatchScore()).reversed()
+            .thenComparingInt(Candidate::index);
+
+    private record Candidate(int index, JobDto job, MatchResult result) {}
+}
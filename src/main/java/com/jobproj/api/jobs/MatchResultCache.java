@@ -0,0 +1,176 @@
+package com.jobproj.api.jobs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobproj.api.jobs.GeminiMatchingService.MatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 매칭 결과 캐시 (내용 기반 키)
+ * - 1차: 로컬 LRU (최대 건수 + TTL)
+ * - 2차: Redis (선택, gemini.cache.redis-enabled=true 일 때만 사용)
+ * - 적중/미스 횟수는 /actuator/metrics/gemini.match.cache 로 확인
+ */
+@Slf4j
+@Component
+public class MatchResultCache {
+
+    private static final String REDIS_PREFIX = "MATCH_RESULT:";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, CachedResult> local;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    @Value("${gemini.cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${gemini.cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    public MatchResultCache(
+        RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${gemini.cache.max-size:2000}") int maxSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        int capacity = Math.max(1, maxSize);
+        // access-order LinkedHashMap: 가장 오래 안 쓴 항목부터 제거
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.localHits = meterRegistry.counter("gemini.match.cache", "result", "hit", "tier", "local");
+        this.redisHits = meterRegistry.counter("gemini.match.cache", "result", "hit", "tier", "redis");
+        this.misses = meterRegistry.counter("gemini.match.cache", "result", "miss", "tier", "none");
+    }
+
+    /** 캐시 조회 (없으면 null) */
+    public MatchResult get(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (local) {
+            CachedResult entry = local.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    localHits.increment();
+                    return entry.value();
+                }
+                local.remove(key);
+            }
+        }
+
+        MatchResult fromRedis = getFromRedis(key);
+        if (fromRedis != null) {
+            redisHits.increment();
+            putLocal(key, fromRedis);
+            return fromRedis;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /** 로컬 캐시만 조회 (통계에 집계하지 않음, 대기 여부 판단용) */
+    public MatchResult peekLocal(String key) {
+        synchronized (local) {
+            CachedResult entry = local.get(key);
+            return entry != null && entry.expiresAt() > System.currentTimeMillis() ? entry.value() : null;
+        }
+    }
+
+    /** 캐시 저장 (Gemini 가 실제로 계산한 결과만 저장할 것) */
+    public void put(String key, MatchResult result) {
+        if (result == null) {
+            return;
+        }
+        putLocal(key, result);
+        putToRedis(key, result);
+    }
+
+    public void clear() {
+        synchronized (local) {
+            local.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (local) {
+            return local.size();
+        }
+    }
+
+    private void putLocal(String key, MatchResult result) {
+        long expiresAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ttlMinutes);
+        synchronized (local) {
+            local.put(key, new CachedResult(result, expiresAt));
+        }
+    }
+
+    private MatchResult getFromRedis(String key) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_PREFIX + key);
+            return json != null ? fromJson(json) : null;
+        } catch (Exception e) {
+            // Redis 장애는 캐시 미스로 취급 (매칭 자체는 계속 진행)
+            log.warn("매칭 캐시 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putToRedis(String key, MatchResult result) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(result);
+            redisTemplate.opsForValue().set(REDIS_PREFIX + key, json, ttlMinutes, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            log.warn("매칭 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private MatchResult fromJson(String json) throws Exception {
+        JsonNode node = objectMapper.readTree(json);
+        return new MatchResult(
+            node.path("matchScore").asInt(0),
+            node.path("skillMatch").asInt(0),
+            node.path("educationMatch").asInt(0),
+            node.path("careerMatch").asInt(0),
+            node.path("otherMatch").asInt(0),
+            node.path("summary").asText(""),
+            toStringList(node.path("strengths")),
+            toStringList(node.path("weaknesses"))
+        );
+    }
+
+    private static List<String> toStringList(JsonNode node) {
+        List<String> list = new ArrayList<>();
+        if (node.isArray()) {
+            for (JsonNode n : node) {
+                list.add(n.asText());
+            }
+        }
+        return list;
+    }
+
+    private record CachedResult(MatchResult value, long expiresAt) {}
+}
@@ -0,0 +1,20 @@
+package com.jobproj.api.jobs;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "매칭 스트리밍(SSE) 이벤트 데이터")
+public class MatchStreamEvent {
+
+    @Schema(description = "요청 jobs 목록에서의 인덱스(0부터)", example = "3")
+    private int jobIndex;
+
+    @Schema(description = "quick: 기본 매칭 즉시 점수, refined: 최종 점수", example = "refined")
+    private String stage;
+
+    @Schema(description = "매칭 결과")
+    private GeminiMatchingService.MatchResult result;
+}
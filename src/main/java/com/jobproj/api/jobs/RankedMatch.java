@@ -0,0 +1,23 @@
+package com.jobproj.api.jobs;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "추천 파이프라인 결과(순위순)")
+public class RankedMatch {
+
+    @Schema(description = "순위(1부터)", example = "1")
+    private int rank;
+
+    @Schema(description = "공고")
+    private JobDto job;
+
+    @Schema(description = "매칭 결과")
+    private GeminiMatchingService.MatchResult result;
+
+    @Schema(description = "점수 출처 - rerank: Gemini 재평가, local: 로컬 1차 점수", example = "rerank")
+    private String stage;
+}
@@ -0,0 +1,136 @@
+package com.jobproj.api.jobs;
+
+import com.jobproj.api.common.OwnerMismatchException;
+import com.jobproj.api.dto.ResumeDto;
+import com.jobproj.api.jobs.GeminiMatchingService.EducationInfo;
+import com.jobproj.api.jobs.GeminiMatchingService.ExperienceInfo;
+import com.jobproj.api.jobs.GeminiMatchingService.ResumeInfo;
+import com.jobproj.api.resume.ResumeRepository;
+import com.jobproj.api.resume.ResumeRepository.VersionStamp;
+import com.jobproj.api.section.education.EducationRepository;
+import com.jobproj.api.section.experience.ExperienceRepository;
+import com.jobproj.api.section.skill.SkillRepository;
+import com.jobproj.api.section.skill.SkillDto.ResumeSkillResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 매칭용 ResumeInfo 를 서버에서 조립 (/jobs/match?resumeId=)
+ * - 이력서 기본 정보 + 학력/경력/스킬을 섹션 저장소에서 읽어 만들고, 이력서 버전별로 로컬 LRU 에 보관
+ * - 버전: DB 의 jobproject_resume.resume_version (섹션/스킬 변경도 같은 트랜잭션에서 증가)
+ *   -> 요청마다 버전만 조회해 캐시 항목과 다르면 다시 조립 (재시작/여러 노드에서도 같은 기준)
+ * - 조립 결과에 매칭 지문(MatchKeys.ofResume)을 미리 계산해 두어 요청마다 이력서를 다시 해시하지 않음
+ * - 적중/미스 횟수는 /actuator/metrics/resume.info.cache 로 확인
+ */
+@Slf4j
+@Service
+public class ResumeInfoService {
+
+    private final ResumeRepository resumeRepository;
+    private final EducationRepository educationRepository;
+    private final ExperienceRepository experienceRepository;
+    private final SkillRepository skillRepository;
+
+    private final Map<Long, CachedInfo> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResumeInfoService(
+        ResumeRepository resumeRepository,
+        EducationRepository educationRepository,
+        ExperienceRepository experienceRepository,
+        SkillRepository skillRepository,
+        MeterRegistry meterRegistry,
+        @Value("${resume.info.cache.max-size:1000}") int maxSize
+    ) {
+        this.resumeRepository = resumeRepository;
+        this.educationRepository = educationRepository;
+        this.experienceRepository = experienceRepository;
+        this.skillRepository = skillRepository;
+        int capacity = Math.max(1, maxSize);
+        // access-order LinkedHashMap: 가장 오래 안 쓴 항목부터 제거
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedInfo> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.hits = meterRegistry.counter("resume.info.cache", "result", "hit");
+        this.misses = meterRegistry.counter("resume.info.cache", "result", "miss");
+    }
+
+    /**
+     * 내 이력서의 매칭용 정보 (없으면 NoSuchElementException -> 404, 남의 이력서면 403)
+     * - 반환 객체는 캐시와 공유되므로 수정하지 말 것
+     */
+    public ResumeInfo get(long resumeId, Long usersId) {
+        if (usersId == null) {
+            throw new IllegalArgumentException("usersId required");
+        }
+        VersionStamp stamp = resumeRepository.findVersionStamp(resumeId)
+            .orElseThrow(() -> new NoSuchElementException("resume not found"));
+        if (!usersId.equals(stamp.usersId())) {
+            throw new OwnerMismatchException("resume owner != me");
+        }
+        CachedInfo cached;
+        synchronized (cache) {
+            cached = cache.get(resumeId);
+        }
+        if (cached != null && cached.version() == stamp.version()) {
+            hits.increment();
+            return cached.info();
+        }
+
+        misses.increment();
+        // 버전을 먼저 읽었으므로 조립 결과는 그 버전 이상 -> 조립 중에 바뀌었으면 다음 요청에서 다시 조립
+        CachedInfo built = checkOwner(build(resumeId, stamp.version()), usersId);
+        synchronized (cache) {
+            CachedInfo current = cache.get(resumeId);
+            if (current == null || current.version() < built.version()) {
+                cache.put(resumeId, built);
+            }
+        }
+        return built.info();
+    }
+
+    private CachedInfo build(long resumeId, long version) {
+        ResumeDto.Response resume = resumeRepository.findById(resumeId)
+            .orElseThrow(() -> new NoSuchElementException("resume not found"));
+        List<Long> ids = List.of(resumeId);
+
+        List<String> skills = skillRepository.listResumeSkillsByResumeIds(ids).stream()
+            .map(ResumeSkillResponse::name)
+            .toList();
+        List<EducationInfo> educations = educationRepository.listByResumeIds(ids).stream()
+            .map(e -> new EducationInfo(e.schoolName, e.major, e.degree, e.startDate, e.endDate))
+            .toList();
+        List<ExperienceInfo> experiences = experienceRepository.listByResumeIds(ids).stream()
+            .map(e -> new ExperienceInfo(
+                e.companyName(), e.positionTitle(), e.startDate(), e.endDate(), e.isCurrent(), e.description()))
+            .toList();
+
+        ResumeInfo info = new ResumeInfo(
+            resume.name != null ? resume.name : resume.title, skills, educations, experiences);
+        info.fingerprint(MatchKeys.ofResume(info));
+        log.debug("매칭용 이력서 정보 조립 - resumeId={}, version={}", resumeId, version);
+        return new CachedInfo(resume.usersId, info, version);
+    }
+
+    private static CachedInfo checkOwner(CachedInfo cached, Long usersId) {
+        if (!usersId.equals(cached.usersId())) {
+            throw new OwnerMismatchException("resume owner != me");
+        }
+        return cached;
+    }
+
+    private record CachedInfo(Long usersId, ResumeInfo info, long version) {}
+}
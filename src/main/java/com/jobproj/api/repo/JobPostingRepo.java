@@ -1,13 +1,31 @@
 package com.jobproj.api.repo;
 
 import com.jobproj.api.dto.JobPostingDto;
+import com.jobproj.api.dto.JobPostingPage;
+import com.jobproj.api.jobs.JobDto;
+import java.nio.charset.StandardCharsets;
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import org.springframework.jdbc.core.*;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class JobPostingRepo {
+  // 한 번에 보내는 업서트 행 수 (MySQL 드라이버는 rewriteBatchedStatements=true 일 때 다중 VALUES 로 묶음)
+  private static final int UPSERT_BATCH_SIZE = 500;
+  // 컬럼 길이 (VARCHAR 문자 수) - 넘는 값은 잘라서 저장 (한 행 때문에 배치 전체가 실패하지 않도록)
+  private static final int TEXT_MAX_LENGTH = 200;
+  private static final int URL_MAX_LENGTH = 500;
+  private static final int TAGS_MAX_LENGTH = 500;
+  private static final String ACTIVE_COLUMNS =
+      "job_posting_id, job_posting_title, "
+          + "job_posting_employment_type, job_posting_location, "
+          + "job_posting_description, job_posting_created_at ";
+
   private final JdbcTemplate jdbc;
 
   public JobPostingRepo(JdbcTemplate j) {
@@ -28,11 +46,187 @@ public class JobPostingRepo {
 
   public List<JobPostingDto> findActive(int limit, int offset) {
     String sql =
-        "SELECT job_posting_id, job_posting_title, "
-            + "job_posting_employment_type, job_posting_location, "
-            + "job_posting_description FROM jobpoject_job_posting "
+        "SELECT "
+            + ACTIVE_COLUMNS
+            + "FROM jobproject_job_posting "
             + "WHERE job_posting_is_active=1 "
-            + "ORDER BY job_posting_created_at DESC LIMIT ? OFFSET ?";
+            + "ORDER BY job_posting_created_at DESC, job_posting_id DESC LIMIT ? OFFSET ?";
     return jdbc.query(sql, new Mapper(), limit, offset);
   }
+
+  // 키셋 페이지네이션: cursor(마지막으로 받은 (created_at, id)) 다음 행부터 limit 건
+  // - ix_posting_active_created 인덱스를 커서 위치부터 읽으므로 페이지 깊이와 무관하게 일정한 비용
+  public JobPostingPage findActiveAfter(String cursor, int limit) {
+    List<Object> args = new ArrayList<>();
+    StringBuilder sql =
+        new StringBuilder("SELECT ")
+            .append(ACTIVE_COLUMNS)
+            .append("FROM jobproject_job_posting WHERE job_posting_is_active=1 ");
+    if (cursor != null && !cursor.isBlank()) {
+      Cursor after = Cursor.decode(cursor);
+      sql.append(
+          "AND (job_posting_created_at < ? "
+              + "OR (job_posting_created_at = ? AND job_posting_id < ?)) ");
+      args.add(after.createdAt());
+      args.add(after.createdAt());
+      args.add(after.id());
+    }
+    // 한 건 더 읽어서 다음 페이지 존재 여부 판단 (COUNT 쿼리 없이)
+    sql.append("ORDER BY job_posting_created_at DESC, job_posting_id DESC LIMIT ?");
+    args.add(limit + 1);
+
+    Mapper mapper = new Mapper();
+    List<Timestamp> createdAts = new ArrayList<>();
+    List<JobPostingDto> rows =
+        jdbc.query(
+            sql.toString(),
+            (rs, n) -> {
+              createdAts.add(rs.getTimestamp("job_posting_created_at"));
+              return mapper.mapRow(rs, n);
+            },
+            args.toArray());
+
+    if (rows.size() <= limit) {
+      return new JobPostingPage(rows, null);
+    }
+    List<JobPostingDto> page = rows.subList(0, limit);
+    JobPostingDto last = page.get(limit - 1);
+    String next = new Cursor(createdAts.get(limit - 1), last.getId()).encode();
+    return new JobPostingPage(new ArrayList<>(page), next);
+  }
+
+  // 불투명 커서: base64url("created_at|id") - 클라이언트는 내용을 해석하지 않고 그대로 돌려보냄
+  private record Cursor(Timestamp createdAt, long id) {
+    String encode() {
+      String raw = createdAt.toLocalDateTime() + "|" + id;
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decode(String cursor) {
+      try {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int sep = raw.lastIndexOf('|');
+        LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, sep));
+        return new Cursor(Timestamp.valueOf(createdAt), Long.parseLong(raw.substring(sep + 1)));
+      } catch (RuntimeException e) {
+        throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다.");
+      }
+    }
+  }
+
+  // 수집 공고 업서트 (GI_No 기준, 없으면 INSERT / 있으면 내용 갱신 + 재활성화)
+  public int upsertAll(List<JobDto> postings) {
+    List<JobDto> rows = new ArrayList<>(postings.size());
+    for (JobDto job : postings) {
+      if (job.getGiNo() != null) {
+        rows.add(job);
+      }
+    }
+    if (rows.isEmpty()) {
+      return 0;
+    }
+    String sql =
+        "INSERT INTO jobproject_job_posting ("
+            + "job_posting_gi_no, job_posting_title, job_posting_company_name, "
+            + "job_posting_employment_type, job_posting_location, job_posting_salary_min, "
+            + "job_posting_salary_max, job_posting_tags, job_posting_source_url, "
+            + "job_posting_description, job_posting_is_active, job_posting_posted_at, "
+            + "job_posting_closed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, '', 1, COALESCE(?, NOW()), ?) AS new "
+            + "ON DUPLICATE KEY UPDATE "
+            + "job_posting_title=new.job_posting_title, "
+            + "job_posting_company_name=new.job_posting_company_name, "
+            + "job_posting_employment_type=new.job_posting_employment_type, "
+            + "job_posting_location=new.job_posting_location, "
+            + "job_posting_salary_min=new.job_posting_salary_min, "
+            + "job_posting_salary_max=new.job_posting_salary_max, "
+            + "job_posting_tags=new.job_posting_tags, "
+            + "job_posting_source_url=new.job_posting_source_url, "
+            + "job_posting_posted_at=new.job_posting_posted_at, "
+            + "job_posting_closed_at=new.job_posting_closed_at, "
+            + "job_posting_is_active=1";
+    int[][] counts =
+        jdbc.batchUpdate(
+            sql,
+            rows,
+            UPSERT_BATCH_SIZE,
+            (ps, job) -> {
+              ps.setLong(1, job.getGiNo());
+              ps.setString(2, clip(job.getTitle(), TEXT_MAX_LENGTH));
+              ps.setString(3, clip(job.getCompany(), TEXT_MAX_LENGTH));
+              ps.setString(4, employmentType(job.getJobTypes()));
+              ps.setString(5, clip(job.getLocation(), TEXT_MAX_LENGTH));
+              ps.setObject(6, job.getSalaryMin(), Types.INTEGER);
+              ps.setObject(7, job.getSalaryMax(), Types.INTEGER);
+              ps.setString(8, tags(job.getTags()));
+              ps.setString(9, clip(job.getSourceUrl(), URL_MAX_LENGTH));
+              ps.setTimestamp(10, job.getPostedAt() != null ? Timestamp.valueOf(job.getPostedAt()) : null);
+              ps.setTimestamp(11, closedAt(job.getEndDate()));
+            });
+    return rows.size() - failed(counts);
+  }
+
+  // 마감일이 지난 공고 비활성화 (삭제하지 않음)
+  public int deactivateExpired() {
+    String sql =
+        "UPDATE jobproject_job_posting SET job_posting_is_active=0 "
+            + "WHERE job_posting_is_active=1 AND job_posting_closed_at <= NOW()";
+    return jdbc.update(sql);
+  }
+
+  private static int failed(int[][] counts) {
+    int n = 0;
+    for (int[] batch : counts) {
+      for (int c : batch) {
+        if (c == Statement.EXECUTE_FAILED) {
+          n++;
+        }
+      }
+    }
+    return n;
+  }
+
+  // 잡코리아 고용형태 코드 -> employment_type (1 정규직, 2 계약직, 3 인턴, 4 파견직, 7 아르바이트)
+  private static String employmentType(List<Integer> jobTypes) {
+    if (jobTypes == null || jobTypes.isEmpty() || jobTypes.contains(1)) {
+      return "FULL_TIME";
+    }
+    return switch (jobTypes.get(0)) {
+      case 2 -> "CONTRACT";
+      case 3, 4 -> "TEMPORARY";
+      case 7 -> "PART_TIME";
+      default -> "OTHER";
+    };
+  }
+
+  private static String tags(List<String> tags) {
+    if (tags == null || tags.isEmpty()) {
+      return null;
+    }
+    return clip(String.join(",", tags), TAGS_MAX_LENGTH);
+  }
+
+  // 최대 maxLength 글자로 자름 (서로게이트 쌍은 가르지 않음)
+  private static String clip(String value, int maxLength) {
+    if (value == null || value.length() <= maxLength) {
+      return value;
+    }
+    int end = Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+    return value.substring(0, end);
+  }
+
+  // GI_End_Date(YYYYMMDD) -> 마감일 다음 날 0시 (그 시각부터 비활성화 대상)
+  private static Timestamp closedAt(String endDate) {
+    if (endDate == null || endDate.isBlank()) {
+      return null;
+    }
+    try {
+      LocalDate date = LocalDate.parse(endDate.strip(), DateTimeFormatter.BASIC_ISO_DATE);
+      return Timestamp.valueOf(date.plusDays(1).atStartOfDay());
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
 }
@@ -0,0 +1,110 @@
+package com.jobproj.api.resume;
+
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.pdf.BaseFont;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+/**
+ * PDF 변환 엔진 (Thymeleaf HTML -> Flying Saucer PDF)
+ * - ITextRenderer 는 문서마다 새로 만듦: 렌더러(와 그 SharedContext/폰트 resolver/user agent)는
+ *   이전 문서의 레이아웃, 문서 제목/메타데이터, 폰트·이미지 캐시를 들고 있어 재사용하면 다음 문서에 섞일 수 있음
+ * - 폰트 경로(resume.pdf.fonts, 한글 폰트 포함)와 baseUrl 은 시작 시 한 번만 해석해 두고 렌더러마다 등록
+ * - 템플릿은 Thymeleaf 템플릿 캐시에 파싱된 상태로 남음 (시작 시 warmUp 으로 미리 채움)
+ */
+@Component
+public class PdfEngine {
+
+  private static final Logger log = LoggerFactory.getLogger(PdfEngine.class);
+
+  private static final String WARM_UP_HTML =
+      "<html><head><style>body{font-family:sans-serif}</style></head>"
+          + "<body><p>warm-up 가나다</p></body></html>";
+
+  private final SpringTemplateEngine templateEngine;
+  private final List<String> fonts;
+  private final String baseUrl;
+
+  public PdfEngine(
+      SpringTemplateEngine templateEngine,
+      @Value("${resume.pdf.fonts:fonts/NanumGothic.ttf,fonts/NanumGothicBold.ttf}") String[] fonts) {
+    this.templateEngine = templateEngine;
+    this.fonts = resolveFonts(fonts);
+    // 템플릿 안의 상대 경로(CSS/이미지)는 classpath:templates/ 기준
+    URL templates = PdfEngine.class.getClassLoader().getResource("templates/");
+    this.baseUrl = templates != null ? templates.toExternalForm() : null;
+  }
+
+  /** 템플릿을 HTML 로 만든 뒤 PDF 로 변환해 out 에 씀 (out 은 닫지 않음) */
+  public void render(String templateName, Context ctx, OutputStream out)
+      throws DocumentException, IOException {
+    renderHtml(templateEngine.process(templateName, ctx), out);
+  }
+
+  /** 한 번 변환해 폰트 파일/렌더링 클래스 로딩을 첫 요청 전에 끝냄 */
+  public void warmUp() {
+    try {
+      renderHtml(WARM_UP_HTML, OutputStream.nullOutputStream());
+    } catch (DocumentException | RuntimeException e) {
+      log.warn("PDF 렌더러 예열 실패", e);
+    }
+  }
+
+  // 문서마다 새 렌더러 (렌더러는 변환이 끝나면 버림)
+  private void renderHtml(String html, OutputStream out) throws DocumentException {
+    convert(newRenderer(), html, out);
+  }
+
+  private void convert(ITextRenderer renderer, String html, OutputStream out)
+      throws DocumentException {
+    renderer.setDocumentFromString(html, baseUrl);
+    renderer.layout();
+    renderer.createPDF(out, false);
+    renderer.finishPDF();
+  }
+
+  private ITextRenderer newRenderer() {
+    ITextRenderer renderer = new ITextRenderer();
+    for (String font : fonts) {
+      try {
+        renderer.getFontResolver().addFont(font, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+      } catch (DocumentException | IOException e) {
+        log.warn("PDF 폰트 등록 실패: {}", font, e);
+      }
+    }
+    return renderer;
+  }
+
+  // 파일 경로 또는 classpath 경로 -> iText 가 읽을 수 있는 경로/URL (없는 폰트는 제외)
+  private static List<String> resolveFonts(String[] fonts) {
+    List<String> resolved = new ArrayList<>();
+    for (String font : fonts) {
+      String name = font.strip();
+      if (name.isEmpty()) {
+        continue;
+      }
+      Path file = Path.of(name);
+      URL resource = PdfEngine.class.getClassLoader().getResource(name);
+      if (Files.isRegularFile(file)) {
+        resolved.add(file.toAbsolutePath().toString());
+      } else if (resource != null) {
+        resolved.add(resource.toExternalForm());
+      } else {
+        log.info("PDF 폰트를 찾을 수 없어 건너뜀: {}", name);
+      }
+    }
+    return List.copyOf(resolved);
+  }
+}
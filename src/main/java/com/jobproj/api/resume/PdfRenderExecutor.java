@@ -0,0 +1,104 @@
+package com.jobproj.api.resume;
+
+import com.jobproj.api.common.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * PDF 렌더링 전용 스레드 풀
+ * - 동시에 렌더링하는 수(parallelism)와 대기열 길이(queue-capacity)를 제한해
+ *   내보내기가 몰려도 요청 스레드/힙을 다 쓰지 않게 함
+ * - 대기열이 가득 차면 TooManyRequestsException -> 429 + Retry-After
+ * - /actuator/metrics/resume.pdf.queue.wait, resume.pdf.render, resume.pdf.size,
+ *   resume.pdf.active, resume.pdf.queued, resume.pdf.rejected
+ */
+@Component
+public class PdfRenderExecutor {
+
+  private final ThreadPoolExecutor executor;
+  private final long retryAfterSeconds;
+
+  private final Timer queueWait;
+  private final Timer renderTime;
+  private final DistributionSummary outputSize;
+  private final Counter rejected;
+
+  public PdfRenderExecutor(
+      MeterRegistry meterRegistry,
+      @Value("${resume.pdf.render.parallelism:2}") int parallelism,
+      @Value("${resume.pdf.render.queue-capacity:16}") int queueCapacity,
+      @Value("${resume.pdf.render.retry-after-seconds:5}") long retryAfterSeconds) {
+    int threads = Math.max(1, parallelism);
+    AtomicInteger seq = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            r -> {
+              Thread t = new Thread(r, "pdf-render-" + seq.incrementAndGet());
+              t.setDaemon(true);
+              return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+
+    this.queueWait = meterRegistry.timer("resume.pdf.queue.wait");
+    this.renderTime = meterRegistry.timer("resume.pdf.render");
+    this.outputSize = meterRegistry.summary("resume.pdf.size");
+    this.rejected = meterRegistry.counter("resume.pdf.rejected");
+    meterRegistry.gauge("resume.pdf.active", Tags.empty(), executor, ThreadPoolExecutor::getActiveCount);
+    meterRegistry.gauge("resume.pdf.queued", Tags.empty(), executor, e -> e.getQueue().size());
+  }
+
+  /**
+   * 렌더링 작업 등록
+   *
+   * @param sizeOf 결과의 PDF 크기(바이트, 결과가 null 이면 호출하지 않음)
+   * @throws TooManyRequestsException 대기열이 가득 찬 경우
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> render, ToLongFunction<T> sizeOf) {
+    long queuedAt = System.nanoTime();
+    try {
+      return CompletableFuture.supplyAsync(
+          () -> {
+            long startedAt = System.nanoTime();
+            queueWait.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+            try {
+              T pdf = render.get();
+              if (pdf != null) {
+                outputSize.record(sizeOf.applyAsLong(pdf));
+              }
+              return pdf;
+            } finally {
+              renderTime.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+          },
+          executor);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new TooManyRequestsException("pdf render queue is full", retryAfterSeconds);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,49 @@
+package com.jobproj.api.resume;
+
+import com.jobproj.api.resume.ResumePdfService.RenderedPdf;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 렌더링된 PDF 응답 본문 (파일 채널은 본문 쓰기와 정리 중 먼저 시작한 쪽만 다룸)
+ * - setResult 가 성공해도 본문이 실행되지 않을 수 있음 (비동기 디스패치 실패, 요청 종료 등)
+ *   -> unsentTimeoutMs 안에 쓰기가 시작되지 않으면 채널을 닫음
+ * - 쓰기가 시작되면 끝나거나 실패할 때 RenderedPdf.writeTo 가 채널을 닫음
+ */
+final class PdfResponseBody implements StreamingResponseBody {
+
+  private final RenderedPdf pdf;
+  private final AtomicBoolean claimed = new AtomicBoolean();
+
+  private PdfResponseBody(RenderedPdf pdf) {
+    this.pdf = pdf;
+  }
+
+  /** 본문을 만들고 unsentTimeoutMs 뒤 정리를 예약 */
+  static PdfResponseBody of(RenderedPdf pdf, long unsentTimeoutMs) {
+    PdfResponseBody body = new PdfResponseBody(pdf);
+    CompletableFuture.delayedExecutor(unsentTimeoutMs, TimeUnit.MILLISECONDS).execute(body::discard);
+    return body;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    if (!claimed.compareAndSet(false, true)) {
+      throw new IOException("PDF 응답 본문이 이미 정리됨");
+    }
+    pdf.writeTo(out);
+  }
+
+  /** 아직 쓰기가 시작되지 않았으면 채널을 닫음 (닫았으면 true) */
+  boolean discard() {
+    if (!claimed.compareAndSet(false, true)) {
+      return false;
+    }
+    pdf.discard();
+    return true;
+  }
+}
@@ -0,0 +1,21 @@
+package com.jobproj.api.resume;
+
+/**
+ * 이력서 내용(기본 정보/섹션/첨부)이 바뀌었음을 알리는 이벤트
+ * - 이력서에서 파생된 캐시(매칭용 ResumeInfo 등)가 받아서 무효화
+ * - resumeId 가 null 이면 전체 (예: 스킬 이름 변경처럼 여러 이력서에 걸친 변경)
+ */
+public record ResumeChangedEvent(Long resumeId) {
+
+    public static ResumeChangedEvent of(long resumeId) {
+        return new ResumeChangedEvent(resumeId);
+    }
+
+    public static ResumeChangedEvent all() {
+        return new ResumeChangedEvent(null);
+    }
+
+    public boolean isAll() {
+        return resumeId == null;
+    }
+}
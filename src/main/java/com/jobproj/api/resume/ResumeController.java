@@ -1,12 +1,18 @@
 package com.jobproj.api.resume;
 
 import com.jobproj.api.common.ApiResponse;
+import com.jobproj.api.common.CursorPageRequest;
+import com.jobproj.api.common.CursorPageResponse;
+import com.jobproj.api.common.ETags;
 import com.jobproj.api.common.PageRequest;
 import com.jobproj.api.common.PageResponse;
 import com.jobproj.api.dto.ResumeDto;
 import com.jobproj.api.dto.ResumeDto.CreateRequest;
 import com.jobproj.api.dto.ResumeDto.Response;
 import com.jobproj.api.dto.ResumeDto.UpdateRequest;
+import com.jobproj.api.resume.ResumePdfExportService.ExportRequest;
+import com.jobproj.api.resume.ResumePdfExportService.ExportState;
+import com.jobproj.api.resume.ResumePdfExportService.ExportStatus;
 import com.jobproj.api.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,11 +22,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -33,9 +45,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -47,17 +62,28 @@ public class ResumeController {
         LoggerFactory.getLogger(ResumeController.class);
 
     private final ResumeService service;
+    private final ResumeDetailService detailService;
     private final ResumePdfService pdfService;
+    private final ResumePdfExportService exportService;
     private final CurrentUser currentUser;
 
+    // PDF 응답을 넘긴 뒤 본문 쓰기가 이 시간 안에 시작되지 않으면 파일 채널을 닫음
+    private final long pdfUnsentTimeoutMs;
+
     public ResumeController(
         ResumeService service,
+        ResumeDetailService detailService,
         ResumePdfService pdfService,
-        CurrentUser currentUser
+        ResumePdfExportService exportService,
+        CurrentUser currentUser,
+        @Value("${resume.pdf.unsent-timeout-ms:60000}") long pdfUnsentTimeoutMs
     ) {
         this.service = service;
+        this.detailService = detailService;
         this.pdfService = pdfService;
+        this.exportService = exportService;
         this.currentUser = currentUser;
+        this.pdfUnsentTimeoutMs = Math.max(1, pdfUnsentTimeoutMs);
     }
 
     // ---- 기본 CRUD ----
@@ -86,14 +112,49 @@ public class ResumeController {
 
     @Operation(
         summary = "이력서 단건 조회",
-        description = "소유권 검사 후 단건 반환",
+        description = "소유권 검사 후 단건 반환 (ETag 포함, If-None-Match 가 같으면 304)",
         security = {@SecurityRequirement(name = "cookieAuth")})
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Response>> get(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Response>> get(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         Long usersId = currentUser.id();
-        var opt = service.get(id, usersId);
-        return opt
-            .map(r -> ResponseEntity.ok(ApiResponse.ok(r)))
+        return conditional(id, usersId, ifNoneMatch, "resume", () -> service.get(id, usersId));
+    }
+
+    @Operation(
+        summary = "이력서 전체 조회",
+        description = "기본 정보 + 학력/경력/프로젝트/스킬/첨부를 한 번에 반환 (편집 화면/PDF 용, ETag/304 지원)",
+        security = {@SecurityRequirement(name = "cookieAuth")})
+    @GetMapping("/{id}/full")
+    public ResponseEntity<ApiResponse<ResumeDetail>> getFull(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Long usersId = currentUser.id();
+        return conditional(id, usersId, ifNoneMatch, "resume-full", () -> detailService.get(id, usersId));
+    }
+
+    /**
+     * 버전 기반 조건부 조회
+     * - 버전(PK 조회 한 번)으로 ETag 를 만들어 If-None-Match 와 같으면 본문 없이 304
+     * - 다르면 본문 조회 후 ETag 와 함께 200 (캐시는 매번 재검증)
+     */
+    private <T> ResponseEntity<ApiResponse<T>> conditional(
+        Long id, Long usersId, String ifNoneMatch, String kind, Supplier<Optional<T>> loader
+    ) {
+        var version = service.version(id, usersId);
+        if (version.isEmpty()) {
+            return ResponseEntity.status(404).body(ApiResponse.fail("NOT_FOUND", "resume not found"));
+        }
+        String etag = ETags.weak(kind + "-" + id + "-v" + version.get());
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return loader.get()
+            .map(body -> ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(ApiResponse.ok(body)))
             .orElseGet(
                 () -> ResponseEntity.status(404)
                     .body(ApiResponse.fail("NOT_FOUND", "resume not found"))
@@ -108,7 +169,7 @@ public class ResumeController {
     public ResponseEntity<ApiResponse<PageResponse<Response>>> list(
         @Parameter(description = "페이지(0-base)") @RequestParam(required = false) Integer page,
         @Parameter(description = "페이지 사이즈(1~100)") @RequestParam(required = false) Integer size,
-        @Parameter(description = "정렬규칙 예) createdAt,desc") @RequestParam(required = false) String sort,
+        @Parameter(description = "정렬규칙 예) created_at,desc / relevance (검색어 관련도순)") @RequestParam(required = false) String sort,
         @Parameter(description = "검색어") @RequestParam(required = false) String keyword
     ) {
         Long usersId = currentUser.id();
@@ -117,6 +178,24 @@ public class ResumeController {
         return ResponseEntity.ok(ApiResponse.ok(res));
     }
 
+    @Operation(
+        summary = "이력서 목록 커서 조회",
+        description = "무한 스크롤용. 첫 요청은 cursor 없이, 이후 응답의 nextCursor 를 그대로 전달 (sort 는 첫 요청과 같아야 함)",
+        security = {@SecurityRequirement(name = "cookieAuth")})
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPageResponse<Response>>> scroll(
+        @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 사이즈(1~100)") @RequestParam(required = false) Integer size,
+        @Parameter(description = "정렬규칙 예) created_at,desc") @RequestParam(required = false) String sort,
+        @Parameter(description = "검색어") @RequestParam(required = false) String keyword,
+        @Parameter(description = "전체 건수 포함 여부 (COUNT 쿼리 추가)") @RequestParam(required = false) Boolean withTotal
+    ) {
+        Long usersId = currentUser.id();
+        var pr = new CursorPageRequest(cursor, size, sort, withTotal);
+        var res = service.scroll(pr, usersId, keyword);
+        return ResponseEntity.ok(ApiResponse.ok(res));
+    }
+
     @Operation(
         summary = "이력서 수정",
         description = "소유권 검사 후 PATCH",
@@ -226,31 +305,120 @@ public class ResumeController {
 
     @Operation(
         summary = "이력서 PDF 다운로드",
-        description = "이력서를 PDF로 다운로드",
+        description = "이력서를 PDF로 다운로드 (이력서 버전+템플릿별로 캐시, ETag/304 지원). "
+            + "렌더링 대기열이 가득 차면 429 + Retry-After",
         security = {@SecurityRequirement(name = "cookieAuth")})
     @GetMapping(value = "/{id}/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<byte[]> exportPdf(
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> exportPdf(
         @PathVariable Long id,
-        @RequestParam(name = "template", required = false) Integer template
+        @RequestParam(name = "template", required = false) Integer template,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         Long usersId = currentUser.id();
         int templateIndex =
             (template == null || template < 1 || template > 6)
                 ? 1 : template.intValue();
 
-        byte[] pdfBytes = pdfService.generateResumePdf(id, usersId, templateIndex);
-        if (pdfBytes == null || pdfBytes.length == 0) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        DeferredResult<ResponseEntity<StreamingResponseBody>> result = new DeferredResult<>();
+        var version = service.version(id, usersId);
+        if (version.isEmpty()) {
+            result.setResult(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+            return result;
+        }
+        String etag = ETags.weak("resume-pdf-" + id + "-t" + templateIndex + "-v" + version.get());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            result.setResult(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build());
+            return result;
         }
 
-        String filename = "resume-" + id + ".pdf";
+        // 캐시 미스면 렌더링 풀에서 처리되는 동안 요청 스레드는 반환됨
+        pdfService.getOrRender(id, usersId, templateIndex, version.get()).whenComplete((pdf, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+                return;
+            }
+            if (pdf.isEmpty()) {
+                result.setResult(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+                return;
+            }
+
+            String filename = "resume-" + id + ".pdf";
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_PDF);
+            headers.setContentLength(pdf.get().size());
+            headers.setContentDispositionFormData("attachment", filename);
+            headers.setETag(etag);
+            headers.setCacheControl(CacheControl.noCache().cachePrivate());
+
+            // 본문이 끝내 실행되지 않아도 pdfUnsentTimeoutMs 뒤에는 채널이 닫힘
+            PdfResponseBody body = PdfResponseBody.of(pdf.get(), pdfUnsentTimeoutMs);
+            if (!result.setResult(new ResponseEntity<>(body, headers, HttpStatus.OK))) {
+                // 렌더링이 끝나기 전에 비동기 요청이 타임아웃/종료됨 -> 본문을 쓸 일이 없으므로 파일 채널 닫음
+                body.discard();
+            }
+        });
+        return result;
+    }
+
+    // ---- PDF 일괄 내보내기 (비동기 작업) ----
+
+    @Operation(
+        summary = "이력서 PDF 일괄 내보내기 등록",
+        description = "이력서/템플릿 목록을 ZIP 으로 내보내는 작업을 등록하고 바로 202 + 작업 상태를 반환. "
+            + "진행 중 작업이 많거나 대기열이 가득 차면 429 + Retry-After",
+        security = {@SecurityRequirement(name = "cookieAuth")})
+    @PostMapping(value = "/pdf-exports", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<ExportStatus>> submitPdfExport(@RequestBody ExportRequest req) {
+        ExportStatus status = exportService.submit(currentUser.id(), req);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/resumes/pdf-exports/" + status.jobId()))
+            .body(ApiResponse.ok(status));
+    }
+
+    @Operation(
+        summary = "이력서 PDF 일괄 내보내기 상태 조회",
+        description = "QUEUED / RUNNING / DONE / FAILED 와 진행 건수 (DONE 이면 /download 로 ZIP 다운로드)",
+        security = {@SecurityRequirement(name = "cookieAuth")})
+    @GetMapping("/pdf-exports/{jobId}")
+    public ResponseEntity<ApiResponse<ExportStatus>> getPdfExport(@PathVariable String jobId) {
+        return exportService.status(jobId, currentUser.id())
+            .map(status -> ResponseEntity.ok(ApiResponse.ok(status)))
+            .orElseGet(
+                () -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.fail("NOT_FOUND", "export not found"))
+            );
+    }
+
+    @Operation(
+        summary = "이력서 PDF 일괄 내보내기 ZIP 다운로드",
+        description = "완료된 작업의 ZIP 파일 (아직 진행 중이면 409, 없거나 만료되면 404)",
+        security = {@SecurityRequirement(name = "cookieAuth")})
+    @GetMapping(value = "/pdf-exports/{jobId}/download", produces = "application/zip")
+    public ResponseEntity<StreamingResponseBody> downloadPdfExport(@PathVariable String jobId)
+        throws IOException {
+        Long usersId = currentUser.id();
+        var status = exportService.status(jobId, usersId);
+        if (status.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        if (status.get().state() != ExportState.DONE) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        Optional<FileChannel> zip = exportService.openZip(jobId, usersId);
+        if (zip.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
 
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentLength(pdfBytes.length);
-        headers.setContentDispositionFormData("attachment", filename);
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        headers.setContentLength(zip.get().size());
+        headers.setContentDispositionFormData("attachment", "resumes-" + jobId + ".zip");
+        headers.setCacheControl(CacheControl.noStore());
 
-        return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+        FileChannel channel = zip.get();
+        return new ResponseEntity<>(out -> ResumePdfCache.transferTo(channel, out), headers, HttpStatus.OK);
     }
 }
 
@@ -0,0 +1,23 @@
+package com.jobproj.api.resume;
+
+import com.jobproj.api.attachment.AttachmentDto;
+import com.jobproj.api.dto.ResumeDto;
+import com.jobproj.api.section.education.EducationDto;
+import com.jobproj.api.section.experience.ExperienceDto;
+import com.jobproj.api.section.project.ProjectDto;
+import com.jobproj.api.section.skill.SkillDto;
+import java.util.List;
+
+/**
+ * 이력서 전체 (기본 정보 + 모든 섹션 + 첨부)
+ * - 편집 화면 / PDF 내보내기가 한 번에 받아 쓰는 읽기 모델
+ * - 섹션 목록 순서는 각 섹션 목록 API 와 같음
+ */
+public record ResumeDetail(
+    ResumeDto.Response resume,
+    List<EducationDto.Response> educations,
+    List<ExperienceDto.Response> experiences,
+    List<ProjectDto.Response> projects,
+    List<SkillDto.ResumeSkillResponse> skills,
+    List<AttachmentDto.Response> attachments
+) {}
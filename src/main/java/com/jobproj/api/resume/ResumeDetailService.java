@@ -0,0 +1,88 @@
+package com.jobproj.api.resume;
+
+import com.jobproj.api.attachment.AttachmentRepository;
+import com.jobproj.api.common.OwnerMismatchException;
+import com.jobproj.api.dto.ResumeDto.Response;
+import com.jobproj.api.section.education.EducationRepository;
+import com.jobproj.api.section.experience.ExperienceRepository;
+import com.jobproj.api.section.project.ProjectRepository;
+import com.jobproj.api.section.skill.SkillRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이력서 상세(ResumeDetail) 조회
+ * - 이력서 수와 관계없이 쿼리 6번: 이력서 1 + 섹션별 IN 조회 5 (학력/경력/프로젝트/스킬/첨부)
+ * - 소유권 검사는 이력서 행의 users_id 로 한 번만
+ */
+@Service
+@RequiredArgsConstructor
+public class ResumeDetailService {
+
+    private final ResumeRepository resumeRepo;
+    private final EducationRepository educationRepo;
+    private final ExperienceRepository experienceRepo;
+    private final ProjectRepository projectRepo;
+    private final SkillRepository skillRepo;
+    private final AttachmentRepository attachmentRepo;
+
+    // 단건 (404: empty / 403: OwnerMismatchException)
+    @Transactional(readOnly = true)
+    public Optional<ResumeDetail> get(Long id, Long usersId) {
+        List<ResumeDetail> details = getAll(List.of(id), usersId);
+        return details.isEmpty() ? Optional.empty() : Optional.of(details.get(0));
+    }
+
+    // 여러 건 (요청 순서 유지, 없는 이력서는 빠짐 / 남의 이력서가 섞이면 403)
+    @Transactional(readOnly = true)
+    public List<ResumeDetail> getAll(Collection<Long> ids, Long usersId) {
+        if (usersId == null) {
+            throw new IllegalArgumentException("usersId required");
+        }
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, Response> resumes = resumeRepo.findByIds(distinctIds).stream()
+                .collect(Collectors.toMap(r -> r.resumeId, Function.identity()));
+        for (Response r : resumes.values()) {
+            if (!usersId.equals(r.usersId)) {
+                throw new OwnerMismatchException("resume owner != me");
+            }
+        }
+        List<Long> found = distinctIds.stream().filter(resumes::containsKey).toList();
+        if (found.isEmpty()) {
+            return List.of();
+        }
+
+        var educations = educationRepo.listByResumeIds(found).stream()
+                .collect(Collectors.groupingBy(e -> e.resumeId));
+        var experiences = experienceRepo.listByResumeIds(found).stream()
+                .collect(Collectors.groupingBy(e -> e.resumeId()));
+        var projects = projectRepo.listByResumeIds(found).stream()
+                .collect(Collectors.groupingBy(p -> p.resumeId()));
+        var skills = skillRepo.listResumeSkillsByResumeIds(found).stream()
+                .collect(Collectors.groupingBy(s -> s.resumeId()));
+        var attachments = attachmentRepo.listByResumeIds(found).stream()
+                .collect(Collectors.groupingBy(a -> a.resumeId()));
+
+        List<ResumeDetail> details = new ArrayList<>(found.size());
+        for (Long id : found) {
+            details.add(new ResumeDetail(
+                    resumes.get(id),
+                    educations.getOrDefault(id, List.of()),
+                    experiences.getOrDefault(id, List.of()),
+                    projects.getOrDefault(id, List.of()),
+                    skills.getOrDefault(id, List.of()),
+                    attachments.getOrDefault(id, List.of())
+            ));
+        }
+        return details;
+    }
+}
@@ -0,0 +1,203 @@
+package com.jobproj.api.resume;
+
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이력서 PDF 디스크 캐시
+ * - 키: (resumeId, templateIndex, resume_version) -> 파일 r{id}-t{template}-v{version}.pdf
+ *   (버전은 이력서/섹션/첨부 쓰기마다 올라가므로 내용 해시 대신 사용)
+ * - 전체 크기가 max-bytes 를 넘으면 가장 오래 안 쓴 파일부터 삭제 (LRU)
+ * - 이력서가 바뀌면(ResumeChangedEvent) 해당 이력서의 파일을 모두 삭제
+ * - 템플릿/폰트가 배포마다 바뀔 수 있으므로 시작 시 이전 실행의 파일은 비움
+ * - 렌더러가 임시 파일에 바로 쓰고(store) 응답은 그 파일을 스트리밍 -> PDF 전체를 힙에 올리지 않음
+ */
+@Component
+public class ResumePdfCache {
+
+  private static final Logger log = LoggerFactory.getLogger(ResumePdfCache.class);
+
+  private final Path dir;
+  private final long maxBytes;
+
+  // 파일 이름 -> 크기 (access-order: 가장 오래 안 쓴 항목이 맨 앞)
+  private final Map<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalBytes;
+
+  public ResumePdfCache(
+      @Value("${resume.pdf.cache.dir:${java.io.tmpdir}/jobrecord-pdf-cache}") String dir,
+      @Value("${resume.pdf.cache.max-bytes:268435456}") long maxBytes) {
+    this.dir = Path.of(dir);
+    this.maxBytes = maxBytes;
+  }
+
+  @PostConstruct
+  void init() throws IOException {
+    Files.createDirectories(dir);
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "r*-t*-v*.{pdf,tmp}")) {
+      for (Path file : files) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  /**
+   * 캐시된 PDF 를 연 채널 (없으면 empty)
+   * - 잠금 안에서 열어 두므로 곧바로 LRU 로 지워져도 읽을 수 있음 (호출자가 닫을 것)
+   */
+  public Optional<FileChannel> open(long resumeId, int templateIndex, long version) {
+    String name = fileName(resumeId, templateIndex, version);
+    synchronized (entries) {
+      if (entries.get(name) == null) {
+        return Optional.empty();
+      }
+      try {
+        return Optional.of(FileChannel.open(dir.resolve(name), StandardOpenOption.READ));
+      } catch (IOException e) {
+        // 밖에서 지워진 경우 등 -> 미스로 취급
+        log.warn("PDF 캐시 파일 열기 실패: {}", name, e);
+        remove(name);
+        return Optional.empty();
+      }
+    }
+  }
+
+  /**
+   * 렌더러가 임시 파일에 바로 쓰게 한 뒤 캐시에 등록하고, 등록된 파일을 연 채널을 반환 (호출자가 닫을 것)
+   * - writer 가 false 를 반환하면(이력서 없음/렌더링 실패) 버리고 empty
+   * - max-bytes 보다 큰 결과는 등록하지 않고 이번 응답에만 사용
+   * - 파일 쓰기 실패 시 UncheckedIOException
+   */
+  public Optional<FileChannel> store(long resumeId, int templateIndex, long version, PdfWriter writer) {
+    String name = fileName(resumeId, templateIndex, version);
+    Path tmp = null;
+    try {
+      tmp = Files.createTempFile(dir, name, ".tmp");
+      boolean written;
+      try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+        written = writer.write(out);
+      }
+      if (!written) {
+        return Optional.empty();
+      }
+      long size = Files.size(tmp);
+      if (size > maxBytes) {
+        // 연 채로 임시 파일을 지우면 채널을 닫을 때 공간이 회수됨
+        return Optional.of(FileChannel.open(tmp, StandardOpenOption.READ));
+      }
+      Path target = dir.resolve(name);
+      synchronized (entries) {
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Long previous = entries.put(name, size);
+        totalBytes += size - (previous != null ? previous : 0L);
+        evictExcept(name);
+        return Optional.of(FileChannel.open(target, StandardOpenOption.READ));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("PDF 캐시 저장 실패: " + name, e);
+    } finally {
+      if (tmp != null) {
+        deleteQuietly(tmp);
+      }
+    }
+  }
+
+  /** 출력 스트림에 PDF 를 쓰는 작업 (쓸 내용이 없으면 false) */
+  @FunctionalInterface
+  public interface PdfWriter {
+    boolean write(OutputStream out) throws IOException;
+  }
+
+  /** 이력서 변경 시 (커밋 후) 해당 이력서의 PDF 를 모두 삭제 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onResumeChanged(ResumeChangedEvent event) {
+    String prefix = event.isAll() ? "" : "r" + event.resumeId() + "-";
+    synchronized (entries) {
+      List<String> names = new ArrayList<>();
+      for (String name : entries.keySet()) {
+        if (name.startsWith(prefix)) {
+          names.add(name);
+        }
+      }
+      names.forEach(this::remove);
+    }
+  }
+
+  /**
+   * 파일 채널 내용을 그대로 출력 스트림으로 (FileChannel.transferTo, 끝나면 채널 닫음)
+   * - 소켓 채널이면 커널 복사(sendfile), 서블릿 스트림이면 JDK 가 내부 버퍼로 복사
+   */
+  public static long transferTo(FileChannel channel, OutputStream out) throws IOException {
+    try (channel) {
+      WritableByteChannel target = Channels.newChannel(out);
+      long size = channel.size();
+      long position = 0;
+      while (position < size) {
+        position += channel.transferTo(position, size - position, target);
+      }
+      out.flush();
+      return position;
+    }
+  }
+
+  // 한도를 넘는 동안 가장 오래 안 쓴 파일부터 삭제 (방금 넣은 keep 은 제외)
+  private void evictExcept(String keep) {
+    Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+    while (totalBytes > maxBytes && it.hasNext()) {
+      Map.Entry<String, Long> eldest = it.next();
+      if (eldest.getKey().equals(keep)) {
+        continue;
+      }
+      it.remove();
+      totalBytes -= eldest.getValue();
+      delete(eldest.getKey());
+    }
+  }
+
+  private void remove(String name) {
+    Long size = entries.remove(name);
+    if (size != null) {
+      totalBytes -= size;
+    }
+    delete(name);
+  }
+
+  private void delete(String name) {
+    deleteQuietly(dir.resolve(name));
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      // 열려 있는 파일을 지울 수 없는 OS 등 -> 다음 시작 시 정리
+      log.warn("PDF 캐시 파일 삭제 실패: {}", file.getFileName(), e);
+    }
+  }
+
+  private static String fileName(long resumeId, int templateIndex, long version) {
+    return "r" + resumeId + "-t" + templateIndex + "-v" + version + ".pdf";
+  }
+}
@@ -0,0 +1,428 @@
+package com.jobproj.api.resume;
+
+import com.jobproj.api.common.OwnerMismatchException;
+import com.jobproj.api.common.TooManyRequestsException;
+import com.jobproj.api.resume.ResumePdfService.RenderedPdf;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이력서 PDF 일괄 내보내기 (비동기 작업)
+ * - submit: 이력서/템플릿 목록을 받아 소유권만 확인하고 작업 ID 를 바로 돌려줌
+ * - 작업 스레드(pdf-export-N)가 PDF 를 렌더링 풀(PdfRenderExecutor)에 window 개씩 맡기고,
+ *   요청 순서대로 받아 ZipOutputStream 으로 디스크의 ZIP 파일에 바로 씀
+ *   -> 렌더링은 이력서끼리 병렬, PDF/ZIP 은 파일로만 다루므로 힙 사용량은 window 와 무관하게 작음
+ * - 렌더링은 단건 PDF 와 같은 디스크 캐시(ResumePdfCache)를 거치므로 이미 만든 PDF 는 재사용
+ * - 렌더링 대기열이 가득 차면 앞선 PDF 를 먼저 기록하며 기다림 (단건 요청 몫을 뺏지 않음)
+ * - 작업 대기열이 가득 차거나 사용자당 진행 중 작업이 한도를 넘으면 TooManyRequestsException -> 429
+ * - 끝난 작업(ZIP 포함)은 ttl 이 지나면 삭제
+ */
+@Service
+public class ResumePdfExportService {
+
+  private static final Logger log = LoggerFactory.getLogger(ResumePdfExportService.class);
+
+  // 렌더링 대기열이 가득 찼고 기다릴 PDF 도 없을 때 다시 시도하기까지 대기
+  private static final long RETRY_DELAY_MS = 500;
+
+  private final ResumeService resumeService;
+  private final ResumePdfService pdfService;
+
+  private final Path dir;
+  private final int maxItems;
+  private final int maxActivePerUser;
+  private final int window;
+  private final Duration ttl;
+  private final long retryAfterSeconds;
+  private final ThreadPoolExecutor executor;
+
+  // 작업 ID -> 작업 (완료 후 ttl 동안 유지)
+  private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+  public ResumePdfExportService(
+      ResumeService resumeService,
+      ResumePdfService pdfService,
+      @Value("${resume.pdf.export.dir:${java.io.tmpdir}/jobrecord-pdf-export}") String dir,
+      @Value("${resume.pdf.export.max-items:100}") int maxItems,
+      @Value("${resume.pdf.export.max-active-per-user:2}") int maxActivePerUser,
+      @Value("${resume.pdf.export.workers:1}") int workers,
+      @Value("${resume.pdf.export.queue-capacity:8}") int queueCapacity,
+      @Value("${resume.pdf.export.window:${resume.pdf.render.parallelism:2}}") int window,
+      @Value("${resume.pdf.export.ttl-minutes:30}") long ttlMinutes,
+      @Value("${resume.pdf.render.retry-after-seconds:5}") long retryAfterSeconds) {
+    this.resumeService = resumeService;
+    this.pdfService = pdfService;
+    this.dir = Path.of(dir);
+    this.maxItems = Math.max(1, maxItems);
+    this.maxActivePerUser = Math.max(1, maxActivePerUser);
+    this.window = Math.max(1, window);
+    this.ttl = Duration.ofMinutes(Math.max(1, ttlMinutes));
+    this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+
+    int threads = Math.max(1, workers);
+    AtomicInteger seq = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            r -> {
+              Thread t = new Thread(r, "pdf-export-" + seq.incrementAndGet());
+              t.setDaemon(true);
+              return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  @PostConstruct
+  void init() throws IOException {
+    Files.createDirectories(dir);
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.{zip,tmp}")) {
+      for (Path file : files) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  /** 내보낼 이력서 1건 (template: 1~6, 없거나 범위 밖이면 1) */
+  public record ExportItem(Long resumeId, Integer template) {
+
+    ExportItem normalized() {
+      int idx = (template == null || template < 1 || template > 6) ? 1 : template;
+      return new ExportItem(resumeId, idx);
+    }
+
+    String entryName() {
+      return "resume-" + resumeId + "-t" + template + ".pdf";
+    }
+  }
+
+  public record ExportRequest(List<ExportItem> items) {}
+
+  public enum ExportState {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+  }
+
+  /** 작업 상태 (completed: ZIP 에 들어간 PDF 수, failed: 없어졌거나 렌더링에 실패해 빠진 수) */
+  public record ExportStatus(
+      String jobId,
+      ExportState state,
+      int total,
+      int completed,
+      int failed,
+      LocalDateTime createdAt,
+      LocalDateTime finishedAt) {}
+
+  /**
+   * 일괄 내보내기 등록
+   *
+   * @throws IllegalArgumentException 목록이 비었거나 max-items 초과 (400)
+   * @throws NoSuchElementException 없는 이력서가 있음 (404)
+   * @throws OwnerMismatchException 남의 이력서가 있음 (403)
+   * @throws TooManyRequestsException 작업 대기열이 가득 찼거나 진행 중 작업이 너무 많음 (429)
+   */
+  public ExportStatus submit(Long usersId, ExportRequest req) {
+    if (usersId == null) {
+      throw new IllegalArgumentException("usersId required");
+    }
+    if (req == null || req.items() == null || req.items().isEmpty()) {
+      throw new IllegalArgumentException("items required");
+    }
+    // 같은 (이력서, 템플릿)은 한 번만
+    Set<ExportItem> distinct = new LinkedHashSet<>();
+    for (ExportItem item : req.items()) {
+      if (item == null || item.resumeId() == null) {
+        throw new IllegalArgumentException("resumeId required");
+      }
+      distinct.add(item.normalized());
+    }
+    if (distinct.size() > maxItems) {
+      throw new IllegalArgumentException("too many items (max " + maxItems + ")");
+    }
+    // 소유권은 등록 시점에 확인 (렌더링 직전에도 버전 조회로 다시 확인됨)
+    Set<Long> resumeIds = new LinkedHashSet<>();
+    distinct.forEach(item -> resumeIds.add(item.resumeId()));
+    for (Long resumeId : resumeIds) {
+      if (resumeService.version(resumeId, usersId).isEmpty()) {
+        throw new NoSuchElementException("resume not found: " + resumeId);
+      }
+    }
+
+    ExportJob job = new ExportJob(UUID.randomUUID().toString(), usersId, List.copyOf(distinct));
+    synchronized (this) {
+      long active = jobs.values().stream().filter(j -> j.usersId.equals(usersId) && !j.finished()).count();
+      if (active >= maxActivePerUser) {
+        throw new TooManyRequestsException("too many pdf exports in progress", retryAfterSeconds);
+      }
+      try {
+        executor.execute(() -> run(job));
+      } catch (RejectedExecutionException e) {
+        throw new TooManyRequestsException("pdf export queue is full", retryAfterSeconds);
+      }
+      jobs.put(job.id, job);
+    }
+    log.info("PDF 일괄 내보내기 등록 - job={}, usersId={}, items={}", job.id, usersId, job.items.size());
+    return job.status();
+  }
+
+  /**
+   * 작업 상태
+   *
+   * @return 없거나 만료된 작업이면 empty (404)
+   * @throws OwnerMismatchException 남의 작업 (403)
+   */
+  public Optional<ExportStatus> status(String jobId, Long usersId) {
+    return find(jobId, usersId).map(ExportJob::status);
+  }
+
+  /**
+   * 완료된 ZIP 파일을 연 채널 (호출자가 닫을 것, 열어 둔 채로 만료/삭제되어도 끝까지 읽힘)
+   *
+   * @return 없거나 만료됐거나 아직 완료되지 않은 작업이면 empty
+   * @throws OwnerMismatchException 남의 작업 (403)
+   */
+  public Optional<FileChannel> openZip(String jobId, Long usersId) {
+    Optional<ExportJob> job = find(jobId, usersId);
+    if (job.isEmpty() || job.get().state != ExportState.DONE) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(FileChannel.open(zipPath(job.get().id), StandardOpenOption.READ));
+    } catch (IOException e) {
+      // 만료 정리와 겹친 경우
+      return Optional.empty();
+    }
+  }
+
+  // 끝난 지 ttl 이 지난 작업과 ZIP 삭제
+  @Scheduled(fixedDelayString = "${resume.pdf.export.cleanup-ms:60000}")
+  public void purgeExpired() {
+    purgeExpired(LocalDateTime.now());
+  }
+
+  void purgeExpired(LocalDateTime now) {
+    LocalDateTime threshold = now.minus(ttl);
+    jobs.values().removeIf(job -> {
+      if (job.finishedAt == null || job.finishedAt.isAfter(threshold)) {
+        return false;
+      }
+      deleteQuietly(zipPath(job.id));
+      return true;
+    });
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+    jobs.keySet().forEach(id -> deleteQuietly(zipPath(id)));
+  }
+
+  private Optional<ExportJob> find(String jobId, Long usersId) {
+    ExportJob job = jobId == null ? null : jobs.get(jobId);
+    if (job == null) {
+      return Optional.empty();
+    }
+    if (!job.usersId.equals(usersId)) {
+      throw new OwnerMismatchException("export owner != me");
+    }
+    return Optional.of(job);
+  }
+
+  // 작업 스레드: 임시 파일에 ZIP 을 쓰고 다 쓰면 jobId.zip 으로 옮김
+  private void run(ExportJob job) {
+    job.state = ExportState.RUNNING;
+    long started = System.nanoTime();
+    Path tmp = dir.resolve(job.id + ".tmp");
+    try {
+      try (ZipOutputStream zip =
+          new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        // PDF 는 이미 압축된 스트림이 대부분이라 압축률보다 속도 우선
+        zip.setLevel(Deflater.BEST_SPEED);
+        writeEntries(job, zip);
+      }
+      Files.move(tmp, zipPath(job.id), StandardCopyOption.ATOMIC_MOVE);
+      job.finish(ExportState.DONE);
+      log.info(
+          "PDF 일괄 내보내기 완료 - job={}, completed={}, failed={}, {}ms",
+          job.id,
+          job.completed.get(),
+          job.failed.get(),
+          (System.nanoTime() - started) / 1_000_000);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      deleteQuietly(tmp);
+      job.finish(ExportState.FAILED);
+    } catch (Exception e) {
+      log.warn("PDF 일괄 내보내기 실패 - job={}", job.id, e);
+      deleteQuietly(tmp);
+      job.finish(ExportState.FAILED);
+    }
+  }
+
+  /**
+   * 최대 window 개를 렌더링 풀에 맡겨 두고, 맨 앞(요청 순서)부터 끝나는 대로 ZIP 항목으로 기록
+   * - 동시에 열려 있는 것은 캐시 파일 채널 window 개뿐
+   */
+  private void writeEntries(ExportJob job, ZipOutputStream zip)
+      throws IOException, InterruptedException {
+    Deque<PendingPdf> inFlight = new ArrayDeque<>();
+    int next = 0;
+    try {
+      while (next < job.items.size() || !inFlight.isEmpty()) {
+        while (next < job.items.size() && inFlight.size() < window) {
+          ExportItem item = job.items.get(next);
+          CompletableFuture<Optional<RenderedPdf>> render = startRender(job.usersId, item);
+          if (render == null) {
+            // 렌더링 대기열이 가득 참 -> 앞선 PDF 부터 기록하며 자리가 나길 기다림
+            break;
+          }
+          inFlight.add(new PendingPdf(item, render));
+          next++;
+        }
+        // 기다리고 기록하는 동안에도 deque 에 남겨 둠 (중단/실패하면 아래 finally 에서 함께 닫힘)
+        PendingPdf head = inFlight.peek();
+        if (head == null) {
+          Thread.sleep(RETRY_DELAY_MS);
+          continue;
+        }
+        Optional<RenderedPdf> pdf = await(job, head);
+        if (pdf.isPresent()) {
+          zip.putNextEntry(new ZipEntry(head.item().entryName()));
+          pdf.get().writeTo(zip);
+          zip.closeEntry();
+          job.completed.incrementAndGet();
+        } else {
+          job.failed.incrementAndGet();
+        }
+        inFlight.poll();
+      }
+    } finally {
+      // 작업이 중간에 실패하면 이미 맡긴 렌더링 결과의 파일 채널을 닫음
+      for (PendingPdf pending : inFlight) {
+        pending.render().thenAccept(pdf -> pdf.ifPresent(ResumePdfExportService::closeQuietly));
+      }
+    }
+  }
+
+  // 렌더링 직전 버전 조회 (그 사이 삭제된 이력서는 빈 결과), 렌더링 대기열이 가득 차면 null
+  private CompletableFuture<Optional<RenderedPdf>> startRender(Long usersId, ExportItem item) {
+    try {
+      Optional<Long> version = resumeService.version(item.resumeId(), usersId);
+      if (version.isEmpty()) {
+        return CompletableFuture.completedFuture(Optional.empty());
+      }
+      return pdfService.getOrRender(item.resumeId(), usersId, item.template(), version.get());
+    } catch (TooManyRequestsException e) {
+      return null;
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private Optional<RenderedPdf> await(ExportJob job, PendingPdf pending)
+      throws InterruptedException {
+    try {
+      return pending.render().get();
+    } catch (ExecutionException e) {
+      log.warn(
+          "PDF 일괄 내보내기 항목 실패 - job={}, resumeId={}",
+          job.id,
+          pending.item().resumeId(),
+          e.getCause());
+      return Optional.empty();
+    }
+  }
+
+  private Path zipPath(String jobId) {
+    return dir.resolve(jobId + ".zip");
+  }
+
+  private static void closeQuietly(RenderedPdf pdf) {
+    try {
+      pdf.channel().close();
+    } catch (IOException e) {
+      log.debug("PDF 채널 닫기 실패", e);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("PDF 내보내기 파일 삭제 실패: {}", file, e);
+    }
+  }
+
+  private record PendingPdf(ExportItem item, CompletableFuture<Optional<RenderedPdf>> render) {}
+
+  private static final class ExportJob {
+    private final String id;
+    private final Long usersId;
+    private final List<ExportItem> items;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile ExportState state = ExportState.QUEUED;
+    private volatile LocalDateTime finishedAt;
+
+    private ExportJob(String id, Long usersId, List<ExportItem> items) {
+      this.id = id;
+      this.usersId = usersId;
+      this.items = items;
+    }
+
+    private boolean finished() {
+      return state == ExportState.DONE || state == ExportState.FAILED;
+    }
+
+    private void finish(ExportState result) {
+      finishedAt = LocalDateTime.now();
+      state = result;
+    }
+
+    private ExportStatus status() {
+      return new ExportStatus(
+          id, state, items.size(), completed.get(), failed.get(), createdAt, finishedAt);
+    }
+  }
+}
@@ -3,16 +3,23 @@ package com.jobproj.api.resume;
 import com.jobproj.api.dto.ResumeDto;
 import com.jobproj.api.dto.ResumeDto.Response;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-// 융합프로젝트 김태형 12주차 : Thymeleaf 템플릿 엔진
+// 융합프로젝트 김태형 12주차 : Thymeleaf 템플릿 컨텍스트
 import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
-// 융합프로젝트 김태형 12주차 : HTML → PDF 변환(Flying Saucer)
-import org.xhtmlrenderer.pdf.ITextRenderer;
 
 /**
  * 융합프로젝트 김태형 12주차 :
@@ -23,37 +30,135 @@ import org.xhtmlrenderer.pdf.ITextRenderer;
 @Service
 public class ResumePdfService {
 
-  // 융합프로젝트 김태형 12주차 : 이력서 기본 정보 조회용 서비스
-  private final ResumeService resumeService;
+  private static final Logger log = LoggerFactory.getLogger(ResumePdfService.class);
 
-  // 융합프로젝트 김태형 12주차 : Thymeleaf 템플릿 엔진
-  private final SpringTemplateEngine templateEngine;
+  // 이력서 + 섹션 전체를 한 번에 조회 (ResumeDetail)
+  private final ResumeDetailService resumeDetailService;
 
-  public ResumePdfService(ResumeService resumeService, SpringTemplateEngine templateEngine) {
-    this.resumeService = resumeService;
-    this.templateEngine = templateEngine;
+  // HTML -> PDF 변환 엔진 (렌더러/폰트/템플릿 재사용)
+  private final PdfEngine pdfEngine;
+
+  // 렌더링 결과 디스크 캐시 (이력서 버전 + 템플릿별)
+  private final ResumePdfCache pdfCache;
+
+  // 렌더링 전용 스레드 풀 (동시 렌더링 수/대기열 제한)
+  private final PdfRenderExecutor renderExecutor;
+
+  // 시작 시 PDF 엔진/템플릿 예열 여부
+  private final boolean warmUpEnabled;
+
+  public ResumePdfService(
+      ResumeDetailService resumeDetailService,
+      PdfEngine pdfEngine,
+      ResumePdfCache pdfCache,
+      PdfRenderExecutor renderExecutor,
+      @Value("${resume.pdf.warm-up:true}") boolean warmUpEnabled) {
+    this.resumeDetailService = resumeDetailService;
+    this.pdfEngine = pdfEngine;
+    this.pdfCache = pdfCache;
+    this.renderExecutor = renderExecutor;
+    this.warmUpEnabled = warmUpEnabled;
+  }
+
+  /**
+   * 캐시된 PDF (없으면 렌더링 후 캐시에 저장)
+   *  - version 은 호출자가 소유권 검사와 함께 먼저 조회한 이력서 버전 (ResumeService.version)
+   *  - 렌더링 중에 이력서가 바뀌어도 새 버전 키로는 다시 렌더링되므로 오래된 PDF 가 남지 않음
+   *  - 캐시 미스면 렌더링 풀에서 캐시 파일로 바로 렌더링 (대기열이 가득 차면 TooManyRequestsException -> 429)
+   *
+   * @return PDF (이력서가 없거나 렌더링에 실패하면 empty)
+   */
+  public CompletableFuture<Optional<RenderedPdf>> getOrRender(
+      Long resumeId, Long usersId, int templateIndex, long version) {
+    int idx = (templateIndex < 1 || templateIndex > 6) ? 1 : templateIndex;
+    Optional<FileChannel> cached = pdfCache.open(resumeId, idx, version);
+    if (cached.isPresent()) {
+      return CompletableFuture.completedFuture(Optional.of(RenderedPdf.of(cached.get())));
+    }
+
+    return renderExecutor.submit(
+        () ->
+            pdfCache
+                .store(resumeId, idx, version, out -> writeResumePdf(resumeId, usersId, idx, out))
+                .map(RenderedPdf::of),
+        pdf -> pdf.map(RenderedPdf::size).orElse(0L));
+  }
+
+  /**
+   * 시작 후 예열: 렌더러/폰트 준비 + 템플릿을 예시 데이터로 한 번씩 변환해 템플릿 캐시를 채움
+   * (첫 내보내기의 지연을 줄임, 없는 템플릿은 건너뜀)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    if (!warmUpEnabled) {
+      return;
+    }
+    long started = System.nanoTime();
+    pdfEngine.warmUp();
+    LocalDateTime now = LocalDateTime.now();
+    Response sample =
+        new Response(0L, 0L, "warm-up", "", false, now, now, "", "", "", null, null, 1);
+    ResumeDetail detail =
+        new ResumeDetail(sample, List.of(), List.of(), List.of(), List.of(), List.of());
+    for (int idx = 1; idx <= 6; idx++) {
+      try {
+        pdfEngine.render(
+            templateName(idx), buildContext(detail, idx), OutputStream.nullOutputStream());
+      } catch (Exception e) {
+        log.debug("PDF 템플릿 예열 건너뜀: {} ({})", templateName(idx), e.getMessage());
+      }
+    }
+    log.info("PDF 엔진 예열 완료 - {}ms", (System.nanoTime() - started) / 1_000_000);
+  }
+
+  /** 렌더링된 PDF 파일 (응답으로 보낼 때 닫힘) */
+  public record RenderedPdf(FileChannel channel, long size) {
+
+    static RenderedPdf of(FileChannel channel) {
+      try {
+        return new RenderedPdf(channel, channel.size());
+      } catch (IOException e) {
+        throw new IllegalStateException("PDF 캐시 파일 크기 조회 실패", e);
+      }
+    }
+
+    /** 응답 스트림으로 출력 (FileChannel.transferTo) */
+    public void writeTo(OutputStream out) throws IOException {
+      ResumePdfCache.transferTo(channel, out);
+    }
+
+    /** 응답으로 보내지 못한 경우 파일 채널만 닫음 */
+    public void discard() {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        log.debug("PDF 채널 닫기 실패", e);
+      }
+    }
   }
 
   /**
    * 융합프로젝트 김태형 12주차 :
    *  - 이력서 ID + 사용자 ID 로 소유권을 검사하고,
-   *    해당 이력서를 HTML 템플릿으로 렌더링한 뒤 PDF 바이트로 변환한다.
+   *    해당 이력서를 HTML 템플릿으로 렌더링한 뒤 PDF 로 변환해 out 에 바로 쓴다.
+   *    (PDF 전체를 byte[] 로 모으지 않음)
    *  - templateIndex 에 따라 "resume/pdf-template-{번호}.html" 을 사용.
    *
    * @param resumeId      이력서 ID
    * @param usersId       로그인 사용자 ID (소유권 체크용)
    * @param templateIndex 선택된 템플릿 번호 (1~6)
-   * @return 생성된 PDF 바이트 (이력서가 없거나 소유자가 아니면 null)
+   * @param out           PDF 를 쓸 스트림 (변환이 끝나면 렌더러가 닫을 수 있음)
+   * @return 성공 여부 (이력서가 없거나 변환에 실패하면 false, 이때 out 에 일부가 쓰였을 수 있음)
    */
-  public byte[] generateResumePdf(Long resumeId, Long usersId, int templateIndex) {
-    // 소유권 검사 + 이력서 조회
-    Optional<Response> resumeOpt = resumeService.get(resumeId, usersId);
-    if (resumeOpt.isEmpty()) {
+  public boolean writeResumePdf(Long resumeId, Long usersId, int templateIndex, OutputStream out) {
+    // 소유권 검사 + 이력서/섹션 조회
+    Optional<ResumeDetail> detailOpt = resumeDetailService.get(resumeId, usersId);
+    if (detailOpt.isEmpty()) {
       // 이력서가 없거나 소유자가 아닌 경우 → 컨트롤러에서 404 로 응답
-      return null;
+      return false;
     }
 
-    Response resume = resumeOpt.get(); // public 필드(title, summary 등)를 그대로 사용
+    ResumeDetail detail = detailOpt.get();
 
     try {
       // --------------------------------------------------------
@@ -62,34 +167,36 @@ public class ResumePdfService {
       //     - 아직은 1번만 구현되어 있어서 1~6 넘어와도 전부 1번으로 고정.
       // --------------------------------------------------------
       int idx = (templateIndex < 1 || templateIndex > 6) ? 1 : templateIndex;
-      String templateName = "resume/pdf-template-" + idx;
 
       // --------------------------------------------------------
       // 융합프로젝트 김태형 12주차 :
-      //  2) Thymeleaf 로 HTML 렌더링
+      //  2) Thymeleaf 로 HTML 렌더링 → 3) Flying Saucer 로 HTML → PDF 변환
+      //     (공유 엔진: 파싱된 템플릿, 폰트가 등록된 렌더러를 재사용)
       // --------------------------------------------------------
-      Context ctx = new Context(Locale.KOREA);
-      ctx.setVariable("resume", resume);   // 템플릿에서 ${resume.title}, ${resume.summary} 등으로 사용
-      ctx.setVariable("templateIndex", idx);
+      pdfEngine.render(templateName(idx), buildContext(detail, idx), out);
 
-      String html = templateEngine.process(templateName, ctx);
-
-      // --------------------------------------------------------
-      // 융합프로젝트 김태형 12주차 :
-      //  3) Flying Saucer 로 HTML → PDF 변환
-      // --------------------------------------------------------
-      ByteArrayOutputStream baos = new ByteArrayOutputStream();
-      ITextRenderer renderer = new ITextRenderer();
-      renderer.setDocumentFromString(html);
-      renderer.layout();
-      renderer.createPDF(baos);
-      renderer.finishPDF();
-
-      return baos.toByteArray();
+      return true;
 
     } catch (Exception e) {
-      // PDF 생성에 실패하면 null 반환 → 컨트롤러에서 500 등으로 처리 가능
-      return null;
+      // PDF 생성에 실패하면 false 반환 → 컨트롤러에서 404 로 응답
+      log.warn("PDF 생성 실패 - resumeId={}", resumeId, e);
+      return false;
     }
   }
+
+  private static String templateName(int idx) {
+    return "resume/pdf-template-" + idx;
+  }
+
+  private static Context buildContext(ResumeDetail detail, int idx) {
+    Context ctx = new Context(Locale.KOREA);
+    ctx.setVariable("resume", detail.resume()); // 템플릿에서 ${resume.title}, ${resume.summary} 등으로 사용
+    ctx.setVariable("educations", detail.educations());
+    ctx.setVariable("experiences", detail.experiences());
+    ctx.setVariable("projects", detail.projects());
+    ctx.setVariable("skills", detail.skills());
+    ctx.setVariable("attachments", detail.attachments());
+    ctx.setVariable("templateIndex", idx);
+    return ctx;
+  }
 }
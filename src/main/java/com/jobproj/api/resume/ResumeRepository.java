@@ -1,17 +1,25 @@
 package com.jobproj.api.resume;
 
 import com.jobproj.api.common.JdbcUtils;
+import com.jobproj.api.common.Keyset;
 import com.jobproj.api.common.PageRequest;
 import com.jobproj.api.dto.ResumeDto;
 import com.jobproj.api.dto.ResumeDto.CreateRequest;
 import com.jobproj.api.dto.ResumeDto.Response;
 import com.jobproj.api.dto.ResumeDto.UpdateRequest;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -22,10 +30,34 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class ResumeRepository {
 
+    private static final Logger log = LoggerFactory.getLogger(ResumeRepository.class);
+
+    // ngram_token_size(기본 2) 보다 짧은 검색어는 FULLTEXT 로 찾을 수 없어 LIKE 사용
+    private static final int FULLTEXT_MIN_LENGTH = 2;
+    private static final String[] KEYWORD_COLUMNS = {"title", "summary"};
+
+    // MySQL ER_FT_MATCHING_KEY_NOT_FOUND: 컬럼 목록에 맞는 FULLTEXT 인덱스가 없음 (V9 미적용 DB 등)
+    private static final int ER_FT_MATCHING_KEY_NOT_FOUND = 1191;
+
     private final NamedParameterJdbcTemplate jdbc;
 
-    public ResumeRepository(NamedParameterJdbcTemplate jdbc) {
+    // FULLTEXT(ngram) 검색 사용 여부 (인덱스가 없는 DB 는 resume.search.fulltext=false 권장)
+    private final boolean fullTextEnabled;
+
+    // 목록 정렬 화이트리스트 (offset/cursor 목록 공통, 모두 NOT NULL 컬럼)
+    static final Map<String, String> SORT_COLUMNS =
+            Map.of(
+                    "created_at", "resume_created_at",
+                    "updated_at", "resume_updated_at",
+                    "title", "title"
+            );
+
+    public ResumeRepository(
+            NamedParameterJdbcTemplate jdbc,
+            @Value("${resume.search.fulltext:true}") boolean fullTextEnabled
+    ) {
         this.jdbc = jdbc;
+        this.fullTextEnabled = fullTextEnabled;
     }
 
     // 2233076 12주차 수정: 템플릿 ID 포함
@@ -135,6 +167,32 @@ public class ResumeRepository {
         }
     }
 
+    // 여러 건 조회 (이력서 상세 일괄 조회용, 소유권 검증 없음)
+    public List<Response> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql =
+                """
+                SELECT resume_id,
+                       users_id,
+                       title,
+                       summary,
+                       is_public,
+                       resume_created_at,
+                       resume_updated_at,
+                       resume_full_name,
+                       resume_phone,
+                       resume_email,
+                       resume_birth_date,
+                       resume_profile_image_url,
+                       template_id
+                  FROM jobproject_resume
+                 WHERE resume_id IN (:ids)
+                """;
+        return jdbc.query(sql, Map.of("ids", ids), MAPPER);
+    }
+
     // 2233076 12주차 수정: 템플릿 ID 포함
     // 소유자 조건 포함 단건 조회
     public Optional<Response> findByIdAndUsersId(Long id, Long usersId) {
@@ -181,6 +239,17 @@ public class ResumeRepository {
         }
     }
 
+    // 소유자 + 버전만 조회 (ETag 비교용, PK 조회 한 번)
+    public Optional<VersionStamp> findVersionStamp(Long resumeId) {
+        List<VersionStamp> rows = jdbc.query(
+                "SELECT users_id, resume_version FROM jobproject_resume WHERE resume_id = :id",
+                Map.of("id", resumeId),
+                (rs, i) -> new VersionStamp(rs.getLong("users_id"), rs.getLong("resume_version")));
+        return rows.stream().findFirst();
+    }
+
+    public record VersionStamp(long usersId, long version) {}
+
     // 2233076 12주차 수정: 템플릿 ID 포함
     // 기존 update (소유권 미검증)
     public int update(Long id, UpdateRequest req) {
@@ -201,7 +270,8 @@ public class ResumeRepository {
                        resume_phone = :phone,
                        resume_email = :email,
                        resume_birth_date = :birthDate,
-                       template_id = :templateId
+                       template_id = :templateId,
+                       resume_version = resume_version + 1
                  WHERE resume_id = :id
                 """;
 
@@ -241,7 +311,8 @@ public class ResumeRepository {
                        resume_phone = :phone,
                        resume_email = :email,
                        resume_birth_date = :birthDate,
-                       template_id = :templateId
+                       template_id = :templateId,
+                       resume_version = resume_version + 1
                  WHERE resume_id = :id
                    AND users_id = :usersId
                 """;
@@ -269,7 +340,8 @@ public class ResumeRepository {
                 """
                 UPDATE jobproject_resume
                    SET resume_profile_image_url = :profileImageUrl,
-                       resume_updated_at        = :now
+                       resume_updated_at        = :now,
+                       resume_version           = resume_version + 1
                  WHERE resume_id = :id
                    AND users_id  = :usersId
                 """;
@@ -305,68 +377,130 @@ public class ResumeRepository {
     }
 
     // 2233076 12주차 수정: 템플릿 ID 포함
-    // 목록 조회
+    // 목록 조회 (sort=relevance 이면 검색어 관련도순, FULLTEXT 검색일 때만)
     public List<Response> search(PageRequest pr, Long usersId, String keyword) {
-        Map<String, String> sortMap =
-                Map.of(
-                        "created_at", "resume_created_at",
-                        "updated_at", "resume_updated_at",
-                        "title", "title"
-                );
+        return withKeyword(keyword, fullText -> {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("usersId", usersId)
+                    .addValue("limit", pr.getSize())
+                    .addValue("offset", pr.offset());
 
-        String where = " WHERE users_id = :usersId ";
-        where += JdbcUtils.whereLike(keyword, "title", "summary");
+            String order = fullText && pr.getSort().startsWith("relevance")
+                    ? " ORDER BY " + JdbcUtils.match(KEYWORD_COLUMNS) + " DESC, resume_id DESC "
+                    : JdbcUtils.orderBy(pr.getSort(), SORT_COLUMNS);
 
-        String sql =
-                """
-                SELECT resume_id,
-                       users_id,
-                       title,
-                       summary,
-                       is_public,
-                       resume_created_at,
-                       resume_updated_at,
-                       resume_full_name,
-                       resume_phone,
-                       resume_email,
-                       resume_birth_date,
-                       resume_profile_image_url,
-                       template_id
-                  FROM jobproject_resume
-                """
-                        + where
-                        + JdbcUtils.orderBy(pr.getSort(), sortMap)
-                        + " LIMIT :limit OFFSET :offset";
+            String sql =
+                    """
+                    SELECT resume_id,
+                           users_id,
+                           title,
+                           summary,
+                           is_public,
+                           resume_created_at,
+                           resume_updated_at,
+                           resume_full_name,
+                           resume_phone,
+                           resume_email,
+                           resume_birth_date,
+                           resume_profile_image_url,
+                           template_id
+                      FROM jobproject_resume
+                     WHERE users_id = :usersId
+                    """
+                            + keywordWhere(keyword, fullText, params)
+                            + order
+                            + " LIMIT :limit OFFSET :offset";
 
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("usersId", usersId)
-                .addValue(
-                        "kw",
-                        (keyword == null || keyword.isBlank())
-                                ? null
-                                : "%" + keyword + "%"
-                )
-                .addValue("limit", pr.getSize())
-                .addValue("offset", pr.offset());
-
-        return jdbc.query(sql, params, MAPPER);
+            return jdbc.query(sql, params, MAPPER);
+        });
+    }
+
+    // 커서 목록 조회 (OFFSET 없이 직전 페이지 마지막 행 다음부터, size + 1 건)
+    public List<Response> searchAfter(Keyset keyset, Long usersId, String keyword) {
+        return withKeyword(keyword, fullText -> {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("usersId", usersId);
+
+            String sql =
+                    """
+                    SELECT resume_id,
+                           users_id,
+                           title,
+                           summary,
+                           is_public,
+                           resume_created_at,
+                           resume_updated_at,
+                           resume_full_name,
+                           resume_phone,
+                           resume_email,
+                           resume_birth_date,
+                           resume_profile_image_url,
+                           template_id
+                      FROM jobproject_resume
+                     WHERE users_id = :usersId
+                    """
+                            + keywordWhere(keyword, fullText, params)
+                            + keyset.where()
+                            + keyset.orderBy()
+                            + keyset.limit();
+
+            return jdbc.query(sql, keyset.bind(params), keyset.mapper(MAPPER));
+        });
     }
 
     public long count(Long usersId, String keyword) {
-        String where = " WHERE users_id = :usersId ";
-        where += JdbcUtils.whereLike(keyword, "title", "summary");
+        return withKeyword(keyword, fullText -> {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("usersId", usersId);
 
-        String sql = "SELECT COUNT(*) FROM jobproject_resume " + where;
+            String sql = "SELECT COUNT(*) FROM jobproject_resume WHERE users_id = :usersId "
+                    + keywordWhere(keyword, fullText, params);
 
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("usersId", usersId)
-                .addValue(
-                        "kw",
-                        (keyword == null || keyword.isBlank())
-                                ? null
-                                : "%" + keyword + "%"
-                );
-
-        return jdbc.queryForObject(sql, params, Long.class);
+            return jdbc.queryForObject(sql, params, Long.class);
+        });
+    }
+
+    // 키워드 조건: FULLTEXT MATCH 또는 LIKE '%kw%' (검색어가 없으면 빈 문자열)
+    private static String keywordWhere(String keyword, boolean fullText, MapSqlParameterSource params) {
+        if (keyword == null || keyword.isBlank()) {
+            return "";
+        }
+        if (fullText) {
+            params.addValue("ftkw", JdbcUtils.booleanPhrase(keyword));
+            return JdbcUtils.whereMatch(keyword, KEYWORD_COLUMNS);
+        }
+        params.addValue("kw", "%" + keyword + "%");
+        return JdbcUtils.whereLike(keyword, KEYWORD_COLUMNS);
+    }
+
+    // FULLTEXT 로 실행하고, FULLTEXT 인덱스가 없다는 오류일 때만 이번 조회를 LIKE 로 다시 실행
+    // (그 밖의 오류는 그대로 전파, 다음 조회는 다시 FULLTEXT 로 시도)
+    private <T> T withKeyword(String keyword, Function<Boolean, T> query) {
+        // 연산자 문자를 뺀 실제 검색어 길이로 판단 ("C++" -> "C" 는 토큰 크기보다 짧아 LIKE)
+        boolean fullText = fullTextEnabled
+                && keyword != null
+                && JdbcUtils.booleanTerm(keyword).length() >= FULLTEXT_MIN_LENGTH;
+        if (!fullText) {
+            return query.apply(false);
+        }
+        try {
+            return query.apply(true);
+        } catch (DataAccessException e) {
+            if (!isMissingFullTextIndex(e)) {
+                throw e;
+            }
+            log.warn("FULLTEXT 인덱스가 없어 LIKE 로 검색합니다 (resume.search.fulltext=false 로 끌 수 있음): {}",
+                    e.getMessage());
+            return query.apply(false);
+        }
+    }
+
+    private static boolean isMissingFullTextIndex(DataAccessException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && sql.getErrorCode() == ER_FT_MATCHING_KEY_NOT_FOUND) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -1,5 +1,8 @@
 package com.jobproj.api.resume;
 
+import com.jobproj.api.common.CursorPageRequest;
+import com.jobproj.api.common.CursorPageResponse;
+import com.jobproj.api.common.Keyset;
 import com.jobproj.api.common.OwnerMismatchException;
 import com.jobproj.api.common.PageRequest;
 import com.jobproj.api.common.PageResponse;
@@ -9,6 +12,7 @@ import com.jobproj.api.dto.ResumeDto.Response;
 import com.jobproj.api.dto.ResumeDto.UpdateRequest;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ResumeService {
 
     private final ResumeRepository repo;
+    private final ApplicationEventPublisher events;
 
     /** JWT에서 구한 usersId를 인자로 받아 생성 */
     @Transactional
@@ -48,18 +53,34 @@ public class ResumeService {
         return repo.findById(id);
     }
 
+    // 버전만 조회 (404: empty / 403) - 내용(섹션/첨부 포함)이 바뀔 때마다 증가, ETag 비교용
+    @Transactional(readOnly = true)
+    public Optional<Long> version(Long id, Long usersId) {
+        if (usersId == null) {
+            throw new IllegalArgumentException("usersId required");
+        }
+        var stamp = repo.findVersionStamp(id);
+        if (stamp.isEmpty()) {
+            return Optional.empty();
+        }
+        if (stamp.get().usersId() != usersId) {
+            throw new OwnerMismatchException("resume owner != me");
+        }
+        return Optional.of(stamp.get().version());
+    }
+
     // 소유자만 업데이트
     @Transactional
     public boolean update(Long id, Long usersId, UpdateRequest req) {
         verifyOwnerOrThrow(id, usersId);
-        return repo.updateByOwner(id, usersId, req) > 0;
+        return changed(id, repo.updateByOwner(id, usersId, req) > 0);
     }
 
     // 소유자만 삭제
     @Transactional
     public boolean delete(Long id, Long usersId) {
         verifyOwnerOrThrow(id, usersId);
-        return repo.deleteByOwner(id, usersId) > 0;
+        return changed(id, repo.deleteByOwner(id, usersId) > 0);
     }
 
     // 목록 조회
@@ -73,6 +94,17 @@ public class ResumeService {
         return new PageResponse<>(items, pr.getPage(), pr.getSize(), total);
     }
 
+    // 커서 목록 조회 (COUNT 는 withTotal=true 일 때만)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Response> scroll(CursorPageRequest pr, Long usersId, String keyword) {
+        if (usersId == null) {
+            throw new IllegalArgumentException("usersId required");
+        }
+        var keyset = Keyset.of(pr, ResumeRepository.SORT_COLUMNS, "resume_id");
+        var rows = repo.searchAfter(keyset, usersId, keyword);
+        return keyset.page(rows, () -> repo.count(usersId, keyword), pr.isWithTotal());
+    }
+
     // 프로필 사진 URL 업데이트
     @Transactional
     public String updateProfileImage(Long id, Long usersId, String profileImageUrl) {
@@ -81,9 +113,18 @@ public class ResumeService {
         if (updated <= 0) {
             throw new IllegalArgumentException("resume not found");
         }
+        changed(id, true);
         return profileImageUrl;
     }
 
+    // 변경 알림 (파생 캐시 무효화, 커밋 후 처리)
+    private boolean changed(Long resumeId, boolean changed) {
+        if (changed) {
+            events.publishEvent(ResumeChangedEvent.of(resumeId));
+        }
+        return changed;
+    }
+
     // 공통 소유권 검사
     private void verifyOwnerOrThrow(Long resumeId, Long usersId) {
         if (usersId == null) {
@@ -0,0 +1,36 @@
+package com.jobproj.api.resume;
+
+import java.util.Map;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * 이력서 버전(jobproject_resume.resume_version) 증가
+ * - 이력서 내용(섹션/스킬 매핑/첨부 포함)을 바꾸는 저장소 쓰기가 같은 트랜잭션 안에서 먼저 호출
+ *   (항상 이력서 행부터 잠그므로 쓰기끼리 잠금 순서가 같음)
+ * - 버전은 이력서 조회의 ETag 로 사용
+ */
+public final class ResumeVersions {
+
+    private static final String BUMP =
+            "UPDATE jobproject_resume SET resume_version = resume_version + 1 WHERE resume_id ";
+
+    private ResumeVersions() {}
+
+    /** 해당 이력서 버전 +1 (resumeId 가 없으면 아무것도 안 함) */
+    public static int bump(NamedParameterJdbcTemplate jdbc, Long resumeId) {
+        if (resumeId == null) {
+            return 0;
+        }
+        return jdbc.update(BUMP + "= :resumeId", Map.of("resumeId", resumeId));
+    }
+
+    /**
+     * table 의 idColumn = id 행이 속한 이력서들의 버전 +1 (수정/삭제 전에 호출)
+     * - table/idColumn 은 코드 상수만 넘길 것
+     */
+    public static int bumpOwnerOf(NamedParameterJdbcTemplate jdbc, String table, String idColumn, long id) {
+        return jdbc.update(
+                BUMP + "IN (SELECT resume_id FROM " + table + " WHERE " + idColumn + " = :id)",
+                Map.of("id", id));
+    }
+}
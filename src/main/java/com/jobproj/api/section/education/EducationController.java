@@ -1,6 +1,8 @@
 package com.jobproj.api.section.education;
 
 import com.jobproj.api.common.ApiResponse;
+import com.jobproj.api.common.CursorPageRequest;
+import com.jobproj.api.common.CursorPageResponse;
 import com.jobproj.api.common.PageRequest;
 import com.jobproj.api.common.PageResponse;
 import com.jobproj.api.section.education.EducationDto.CreateRequest;
@@ -45,6 +47,20 @@ public class EducationController {
     return ApiResponse.<PageResponse<Response>>ok(res);
   }
 
+  @GetMapping("/resumes/{resumeId}/educations/scroll")
+  @Operation(
+      summary = "학력 섹션 커서 목록",
+      tags = {"섹션"})
+  public ApiResponse<CursorPageResponse<Response>> scroll(
+      @PathVariable long resumeId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") Integer size,
+      @RequestParam(required = false) String sort,
+      @RequestParam(required = false) Boolean withTotal) {
+    var pr = new CursorPageRequest(cursor, size, sort, withTotal);
+    return ApiResponse.ok(svc.scrollByResume(resumeId, pr));
+  }
+
   @GetMapping("/educations/{id}")
   @Operation(
       summary = "학력 섹션 조회",
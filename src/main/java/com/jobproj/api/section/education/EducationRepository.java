@@ -1,7 +1,9 @@
 package com.jobproj.api.section.education;
 
 import com.jobproj.api.common.JdbcUtils;
+import com.jobproj.api.common.Keyset;
 import com.jobproj.api.common.PageRequest;
+import com.jobproj.api.resume.ResumeVersions;
 import com.jobproj.api.section.education.EducationDto.CreateRequest;
 import com.jobproj.api.section.education.EducationDto.Response;
 import com.jobproj.api.section.education.EducationDto.UpdateRequest;
@@ -20,6 +22,22 @@ public class EducationRepository {
 
   private final NamedParameterJdbcTemplate jdbc;
 
+  // sort 화이트리스트 (클라이언트가 지정할 수 있는 키 → 실제 컬럼)
+  static final Map<String, String> SORT_COLUMNS =
+      Map.of(
+          "start_date", "education_start_date",
+          "end_date", "education_end_date",
+          "created_at", "education_created_at",
+          "updated_at", "education_updated_at",
+          "id", "education_id");
+
+  // 커서 목록용: NULL 가능한 날짜 컬럼은 키셋 비교가 안 되므로 제외
+  static final Map<String, String> CURSOR_SORT_COLUMNS =
+      Map.of(
+          "created_at", "education_created_at",
+          "updated_at", "education_updated_at",
+          "id", "education_id");
+
   public EducationRepository(NamedParameterJdbcTemplate jdbc) {
     this.jdbc = jdbc;
   }
@@ -65,6 +83,7 @@ public class EducationRepository {
             .addValue("current", Boolean.TRUE.equals(r.current) ? 1 : 0)
             .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
     var kh = new GeneratedKeyHolder();
+    ResumeVersions.bump(jdbc, r.resumeId);
     jdbc.update(sql, ps, kh, new String[] {"education_id"});
     return kh.getKey().longValue();
   }
@@ -84,15 +103,7 @@ public class EducationRepository {
 
   // --- list by resume with paging & sort ---
   public List<Response> listByResume(long resumeId, PageRequest pr) {
-    // sort 화이트리스트 (클라이언트가 지정할 수 있는 키 → 실제 컬럼)
-    Map<String, String> whitelist =
-        Map.of(
-            "start_date", "education_start_date",
-            "end_date", "education_end_date",
-            "created_at", "education_created_at",
-            "updated_at", "education_updated_at",
-            "id", "education_id");
-    String order = JdbcUtils.orderBy(pr.getSort(), whitelist); // ← 두 번째 인자가 문자열 아님!
+    String order = JdbcUtils.orderBy(pr.getSort(), SORT_COLUMNS);
 
     String sql =
         """
@@ -112,6 +123,35 @@ public class EducationRepository {
     return jdbc.query(sql, ps, MAPPER);
   }
 
+  // 커서 목록 (OFFSET 없이 직전 페이지 마지막 행 다음부터, size + 1 건)
+  public List<Response> listByResumeAfter(long resumeId, Keyset keyset) {
+    String sql =
+        """
+        SELECT *
+          FROM jobproject_education
+         WHERE resume_id = :rid
+        """
+            + keyset.where()
+            + keyset.orderBy()
+            + keyset.limit();
+
+    var ps = keyset.bind(new MapSqlParameterSource().addValue("rid", resumeId));
+    return jdbc.query(sql, ps, keyset.mapper(MAPPER));
+  }
+
+  // 여러 이력서의 학력을 한 번에 (이력서 상세 조회용, 기본 정렬과 같은 순서)
+  public List<Response> listByResumeIds(Collection<Long> resumeIds) {
+    if (resumeIds.isEmpty()) return List.of();
+    String sql =
+        """
+        SELECT *
+          FROM jobproject_education
+         WHERE resume_id IN (:rids)
+         ORDER BY resume_id, education_start_date DESC, education_id DESC
+        """;
+    return jdbc.query(sql, Map.of("rids", resumeIds), MAPPER);
+  }
+
   public long countByResume(long resumeId) {
     String sql = "SELECT COUNT(*) FROM jobproject_education WHERE resume_id = :rid";
     return jdbc.queryForObject(sql, Map.of("rid", resumeId), Long.class);
@@ -141,11 +181,13 @@ public class EducationRepository {
             .addValue("current", Boolean.TRUE.equals(r.current) ? 1 : 0)
             .addValue("now", Timestamp.valueOf(LocalDateTime.now()))
             .addValue("id", id);
+    ResumeVersions.bumpOwnerOf(jdbc, "jobproject_education", "education_id", id);
     return jdbc.update(sql, ps);
   }
 
   // --- delete ---
   public int delete(long id) {
+    ResumeVersions.bumpOwnerOf(jdbc, "jobproject_education", "education_id", id);
     return jdbc.update(
         "DELETE FROM jobproject_education WHERE education_id = :id", Map.of("id", id));
   }
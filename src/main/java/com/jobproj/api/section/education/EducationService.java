@@ -1,11 +1,16 @@
 package com.jobproj.api.section.education;
 
+import com.jobproj.api.common.CursorPageRequest;
+import com.jobproj.api.common.CursorPageResponse;
+import com.jobproj.api.common.Keyset;
 import com.jobproj.api.common.PageRequest;
 import com.jobproj.api.common.PageResponse;
+import com.jobproj.api.resume.ResumeChangedEvent;
 import com.jobproj.api.section.education.EducationDto.CreateRequest;
 import com.jobproj.api.section.education.EducationDto.Response;
 import com.jobproj.api.section.education.EducationDto.UpdateRequest;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,9 +18,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class EducationService {
 
   private final EducationRepository repo;
+  private final ApplicationEventPublisher events;
 
-  public EducationService(EducationRepository repo) {
+  public EducationService(EducationRepository repo, ApplicationEventPublisher events) {
     this.repo = repo;
+    this.events = events;
   }
 
   @Transactional
@@ -23,7 +30,9 @@ public class EducationService {
     if (r.resumeId == null) throw new IllegalArgumentException("resumeId required");
     if (r.schoolName == null || r.schoolName.isBlank())
       throw new IllegalArgumentException("schoolName required");
-    return repo.create(r);
+    Long id = repo.create(r);
+    events.publishEvent(ResumeChangedEvent.of(r.resumeId));
+    return id;
   }
 
   @Transactional(readOnly = true)
@@ -33,12 +42,21 @@ public class EducationService {
 
   @Transactional
   public boolean update(long id, UpdateRequest r) {
-    return repo.update(id, r) > 0;
+    return changed(id, repo.update(id, r) > 0);
   }
 
   @Transactional
   public boolean delete(long id) {
-    return repo.delete(id) > 0;
+    var resumeId = repo.get(id).map(e -> e.resumeId);
+    boolean deleted = repo.delete(id) > 0;
+    if (deleted) resumeId.ifPresent(rid -> events.publishEvent(ResumeChangedEvent.of(rid)));
+    return deleted;
+  }
+
+  // 수정 후 소속 이력서 변경 알림
+  private boolean changed(long id, boolean changed) {
+    if (changed) repo.get(id).ifPresent(e -> events.publishEvent(ResumeChangedEvent.of(e.resumeId)));
+    return changed;
   }
 
   @Transactional(readOnly = true)
@@ -47,4 +65,12 @@ public class EducationService {
     var total = repo.countByResume(resumeId); // long
     return new PageResponse<>(items, pr.getPage(), pr.getSize(), total);
   }
+
+  // 커서 목록 (COUNT 는 withTotal=true 일 때만)
+  @Transactional(readOnly = true)
+  public CursorPageResponse<Response> scrollByResume(long resumeId, CursorPageRequest pr) {
+    var keyset = Keyset.of(pr, EducationRepository.CURSOR_SORT_COLUMNS, "education_id");
+    var rows = repo.listByResumeAfter(resumeId, keyset);
+    return keyset.page(rows, () -> repo.countByResume(resumeId), pr.isWithTotal());
+  }
 }
@@ -1,5 +1,6 @@
 package com.jobproj.api.section.experience;
 
+import com.jobproj.api.resume.ResumeVersions;
 import com.jobproj.api.section.experience.ExperienceDto.*;
 import java.sql.ResultSet;
 import java.util.*;
@@ -48,6 +49,7 @@ public class ExperienceRepository {
             .addValue("cur", Boolean.TRUE.equals(r.isCurrent()) ? 1 : 0)
             .addValue("desc", r.description());
     var kh = new GeneratedKeyHolder();
+    ResumeVersions.bump(jdbc, r.resumeId());
     jdbc.update(sql, ps, kh, new String[] {"experience_id"});
     return Optional.ofNullable(kh.getKey()).map(Number::longValue).orElseThrow();
   }
@@ -59,6 +61,15 @@ public class ExperienceRepository {
     return jdbc.query(sql, Map.of("rid", resumeId), this::map);
   }
 
+  // 여러 이력서의 경력을 한 번에 (이력서 상세 조회용)
+  public List<Response> listByResumeIds(Collection<Long> resumeIds) {
+    if (resumeIds.isEmpty()) return List.of();
+    var sql =
+        "SELECT * FROM jobproject_experience WHERE resume_id IN (:rids) "
+            + "ORDER BY resume_id, experience_start_date DESC, experience_id DESC";
+    return jdbc.query(sql, Map.of("rids", resumeIds), this::map);
+  }
+
   public Optional<Response> get(long id) {
     var sql = "SELECT * FROM jobproject_experience WHERE experience_id=:id";
     var list = jdbc.query(sql, Map.of("id", id), this::map);
@@ -77,6 +88,7 @@ public class ExperienceRepository {
           experience_description=:desc
       WHERE experience_id=:id
     """;
+    ResumeVersions.bumpOwnerOf(jdbc, "jobproject_experience", "experience_id", id);
     return jdbc.update(
         sql,
         new MapSqlParameterSource()
@@ -90,6 +102,7 @@ public class ExperienceRepository {
   }
 
   public int delete(long id) {
+    ResumeVersions.bumpOwnerOf(jdbc, "jobproject_experience", "experience_id", id);
     return jdbc.update(
         "DELETE FROM jobproject_experience WHERE experience_id=:id", Map.of("id", id));
   }
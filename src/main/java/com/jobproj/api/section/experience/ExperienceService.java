@@ -1,19 +1,27 @@
 package com.jobproj.api.section.experience;
 
+import com.jobproj.api.resume.ResumeChangedEvent;
 import com.jobproj.api.section.experience.ExperienceDto.*;
 import java.util.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ExperienceService {
   private final ExperienceRepository repo;
+  private final ApplicationEventPublisher events;
 
-  public ExperienceService(ExperienceRepository repo) {
+  public ExperienceService(ExperienceRepository repo, ApplicationEventPublisher events) {
     this.repo = repo;
+    this.events = events;
   }
 
+  @Transactional
   public long create(CreateRequest r) {
-    return repo.create(r);
+    long id = repo.create(r);
+    events.publishEvent(ResumeChangedEvent.of(r.resumeId()));
+    return id;
   }
 
   public List<Response> listByResume(long resumeId) {
@@ -24,11 +32,18 @@ public class ExperienceService {
     return repo.get(id);
   }
 
+  @Transactional
   public boolean update(long id, UpdateRequest r) {
-    return repo.update(id, r) > 0;
+    boolean updated = repo.update(id, r) > 0;
+    if (updated) repo.get(id).ifPresent(e -> events.publishEvent(ResumeChangedEvent.of(e.resumeId())));
+    return updated;
   }
 
+  @Transactional
   public boolean delete(long id) {
-    return repo.delete(id) > 0;
+    var resumeId = repo.get(id).map(Response::resumeId);
+    boolean deleted = repo.delete(id) > 0;
+    if (deleted) resumeId.ifPresent(rid -> events.publishEvent(ResumeChangedEvent.of(rid)));
+    return deleted;
   }
 }
@@ -1,5 +1,6 @@
 package com.jobproj.api.section.project;
 
+import com.jobproj.api.resume.ResumeVersions;
 import com.jobproj.api.section.project.ProjectDto.*;
 import java.sql.ResultSet;
 import java.util.*;
@@ -52,6 +53,7 @@ public class ProjectRepository {
             .addValue("tech", r.techStack())
             .addValue("url", r.url());
     var kh = new GeneratedKeyHolder();
+    ResumeVersions.bump(jdbc, r.resumeId());
     jdbc.update(sql, ps, kh, new String[] {"project_id"});
     return Optional.ofNullable(kh.getKey()).map(Number::longValue).orElseThrow();
   }
@@ -63,6 +65,15 @@ public class ProjectRepository {
     return jdbc.query(sql, Map.of("rid", resumeId), this::map);
   }
 
+  // 여러 이력서의 프로젝트를 한 번에 (이력서 상세 조회용)
+  public List<Response> listByResumeIds(Collection<Long> resumeIds) {
+    if (resumeIds.isEmpty()) return List.of();
+    var sql =
+        "SELECT * FROM jobproject_project WHERE resume_id IN (:rids) "
+            + "ORDER BY resume_id, project_start_date DESC, project_id DESC";
+    return jdbc.query(sql, Map.of("rids", resumeIds), this::map);
+  }
+
   public Optional<Response> get(long id) {
     var sql = "SELECT * FROM jobproject_project WHERE project_id=:id";
     var list = jdbc.query(sql, Map.of("id", id), this::map);
@@ -79,6 +90,7 @@ public class ProjectRepository {
           project_tech_stack=:tech, project_url=:url
       WHERE project_id=:id
     """;
+    ResumeVersions.bumpOwnerOf(jdbc, "jobproject_project", "project_id", id);
     return jdbc.update(
         sql,
         new MapSqlParameterSource()
@@ -94,6 +106,7 @@ public class ProjectRepository {
   }
 
   public int delete(long id) {
+    ResumeVersions.bumpOwnerOf(jdbc, "jobproject_project", "project_id", id);
     return jdbc.update("DELETE FROM jobproject_project WHERE project_id=:id", Map.of("id", id));
   }
 }
@@ -0,0 +1,273 @@
+package com.jobproj.api.section.skill;
+
+import com.jobproj.api.section.skill.SkillDto.SkillSuggestion;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스킬 자동완성 (메모리 색인)
+ * - jobproject_skill 전체를 정규화한 키의 정렬 배열로 들고 있다가 이진 탐색으로 접두어 구간을 찾음
+ * - 구간 안에서 인기 상위 limit 개는 구간 최솟값 트리로 뽑음 (구간이 넓어도 O(limit log n))
+ * - 정규화: 소문자, 공백/구두점 제거, 한글은 자모 단위로 분해 ("잡" 입력 중에도 "자바" 일치)
+ * - 키: 전체 이름, 단어 시작 위치부터의 이름("Spring Boot" -> "boot"), 한글 초성("ㅅㅍㄹ")
+ * - 순위: jobproject_resume_skill 사용 수 내림차순, 같으면 이름순
+ * - 스킬 등록/수정/삭제 시 SkillService 가 refresh(), 사용 수는 주기적으로 다시 읽음
+ */
+@Component
+public class SkillAutocomplete {
+
+  private static final Logger log = LoggerFactory.getLogger(SkillAutocomplete.class);
+
+  static final int MAX_LIMIT = 20;
+
+  private static final char HANGUL_BASE = 0xAC00;
+  private static final char HANGUL_LAST = 0xD7A3;
+  private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+  private static final String[] JUNG = {
+    "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+    "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+  };
+  private static final String[] JONG = {
+    "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+    "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+  // 단독으로 입력된 겹모음/겹받침(호환 자모)도 음절 분해 결과와 같은 형태로
+  private static final String COMPOUND_JAMO = "ㅘㅙㅚㅝㅞㅟㅢㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+  private static final String[] COMPOUND_SPLIT = {
+    "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ",
+    "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"
+  };
+
+  private final SkillRepository repo;
+
+  // null 이면 아직 읽지 않음 (통째로 교체, 읽는 쪽은 잠금 없음)
+  private volatile Index index;
+
+  public SkillAutocomplete(SkillRepository repo) {
+    this.repo = repo;
+  }
+
+  public List<SkillSuggestion> suggest(String q, int limit) {
+    Index current = index;
+    if (current == null) {
+      refresh();
+      current = index;
+    }
+    return current.suggest(normalize(q), Math.max(1, Math.min(limit, MAX_LIMIT)));
+  }
+
+  // 스킬 목록/사용 수 다시 읽어 색인 교체 (실패하면 기존 색인 유지)
+  @Scheduled(
+      fixedDelayString = "${skill.autocomplete.refresh-ms:300000}",
+      initialDelayString = "${skill.autocomplete.initial-delay-ms:0}")
+  public synchronized void refresh() {
+    try {
+      List<SkillSuggestion> skills = repo.listSkillPopularity();
+      index = new Index(skills);
+      log.debug("스킬 자동완성 색인 갱신 - {}건", skills.size());
+    } catch (RuntimeException e) {
+      if (index == null) {
+        throw e;
+      }
+      log.warn("스킬 자동완성 색인 갱신 실패, 기존 색인 유지", e);
+    }
+  }
+
+  /** 비교용 키: 소문자, 글자/숫자/#/+ 만 남기고 한글 음절은 자모로 분해 */
+  static String normalize(String s) {
+    if (s == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(s.length() * 2);
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+        int idx = c - HANGUL_BASE;
+        sb.append(CHO.charAt(idx / 588)).append(JUNG[(idx % 588) / 28]).append(JONG[idx % 28]);
+      } else if (COMPOUND_JAMO.indexOf(c) >= 0) {
+        sb.append(COMPOUND_SPLIT[COMPOUND_JAMO.indexOf(c)]);
+      } else if (Character.isLetterOrDigit(c) || c == '#' || c == '+') {
+        sb.append(Character.toLowerCase(c));
+      }
+    }
+    return sb.toString();
+  }
+
+  /** 초성 키 ("스프링" -> "ㅅㅍㄹ"), 한글이 없으면 null */
+  static String initials(String s) {
+    StringBuilder sb = new StringBuilder(s.length());
+    boolean hangul = false;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+        sb.append(CHO.charAt((c - HANGUL_BASE) / 588));
+        hangul = true;
+      } else if (Character.isLetterOrDigit(c)) {
+        sb.append(Character.toLowerCase(c));
+      }
+    }
+    return hangul ? sb.toString() : null;
+  }
+
+  /** 이름 안의 단어 시작 위치 (첫 단어 제외) */
+  private static List<Integer> wordStarts(String name) {
+    List<Integer> starts = new ArrayList<>();
+    for (int i = 1; i < name.length(); i++) {
+      char prev = name.charAt(i - 1);
+      boolean separator = Character.isWhitespace(prev) || "-_/.()".indexOf(prev) >= 0;
+      if (separator && Character.isLetterOrDigit(name.charAt(i))) {
+        starts.add(i);
+      }
+    }
+    return starts;
+  }
+
+  /**
+   * 불변 색인: 스킬은 인기순으로 번호를 매기고(번호가 작을수록 상위),
+   * 키 정렬 배열의 각 항목은 그 번호를 가리킴 -> 접두어 구간에서 번호가 작은 것부터 고르면 인기순
+   */
+  private static final class Index {
+    private final SkillSuggestion[] skills;
+    private final String[] keys;
+    private final int[] owners;
+    // owners 구간 최솟값 위치 트리 (리프는 size 부터)
+    private final int size;
+    private final int[] minTree;
+
+    private Index(List<SkillSuggestion> rows) {
+      this.skills = rows.toArray(new SkillSuggestion[0]);
+      Arrays.sort(
+          skills,
+          Comparator.comparingLong(SkillSuggestion::resumeCount)
+              .reversed()
+              .thenComparing(SkillSuggestion::name, String.CASE_INSENSITIVE_ORDER));
+
+      List<String> keyList = new ArrayList<>();
+      List<Integer> ownerList = new ArrayList<>();
+      for (int rank = 0; rank < skills.length; rank++) {
+        String name = skills[rank].name();
+        Set<String> variants = new LinkedHashSet<>();
+        variants.add(normalize(name));
+        for (int start : wordStarts(name)) {
+          variants.add(normalize(name.substring(start)));
+        }
+        String initials = initials(name);
+        if (initials != null) {
+          variants.add(initials);
+        }
+        for (String key : variants) {
+          if (!key.isEmpty()) {
+            keyList.add(key);
+            ownerList.add(rank);
+          }
+        }
+      }
+
+      Integer[] order = new Integer[keyList.size()];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, Comparator.comparing(keyList::get));
+      this.keys = new String[order.length];
+      this.owners = new int[order.length];
+      for (int i = 0; i < order.length; i++) {
+        keys[i] = keyList.get(order[i]);
+        owners[i] = ownerList.get(order[i]);
+      }
+
+      int n = 1;
+      while (n < Math.max(1, owners.length)) {
+        n <<= 1;
+      }
+      this.size = n;
+      this.minTree = new int[2 * n];
+      for (int i = 0; i < n; i++) {
+        minTree[n + i] = i < owners.length ? i : -1;
+      }
+      for (int i = n - 1; i >= 1; i--) {
+        minTree[i] = better(minTree[2 * i], minTree[2 * i + 1]);
+      }
+    }
+
+    private List<SkillSuggestion> suggest(String prefix, int limit) {
+      if (prefix.isEmpty()) {
+        // 검색어가 없으면 인기 스킬
+        return List.of(Arrays.copyOf(skills, Math.min(limit, skills.length)));
+      }
+      // 접두어 구간 [from, to): prefix 이상 ~ prefix + U+FFFF 미만
+      int from = lowerBound(prefix);
+      int to = lowerBound(prefix + Character.MAX_VALUE);
+      if (from == to) {
+        return List.of();
+      }
+      // 구간 최솟값을 꺼내고 그 양옆 구간을 다시 후보로 -> 인기순으로 하나씩 (같은 스킬의 다른 키는 건너뜀)
+      PriorityQueue<int[]> candidates =
+          new PriorityQueue<>(Comparator.comparingInt((int[] c) -> owners[c[2]]));
+      candidates.add(new int[] {from, to, minPos(from, to)});
+      List<SkillSuggestion> result = new ArrayList<>(limit);
+      Set<Integer> seen = new HashSet<>();
+      while (!candidates.isEmpty() && result.size() < limit) {
+        int[] c = candidates.poll();
+        int pos = c[2];
+        if (seen.add(owners[pos])) {
+          result.add(skills[owners[pos]]);
+        }
+        if (c[0] < pos) {
+          candidates.add(new int[] {c[0], pos, minPos(c[0], pos)});
+        }
+        if (pos + 1 < c[1]) {
+          candidates.add(new int[] {pos + 1, c[1], minPos(pos + 1, c[1])});
+        }
+      }
+      return result;
+    }
+
+    // [from, to) 에서 owners 값이 가장 작은 위치
+    private int minPos(int from, int to) {
+      int best = -1;
+      for (int l = from + size, r = to + size; l < r; l >>= 1, r >>= 1) {
+        if ((l & 1) == 1) {
+          best = better(best, minTree[l++]);
+        }
+        if ((r & 1) == 1) {
+          best = better(best, minTree[--r]);
+        }
+      }
+      return best;
+    }
+
+    private int better(int a, int b) {
+      if (a < 0) {
+        return b;
+      }
+      if (b < 0) {
+        return a;
+      }
+      return owners[b] < owners[a] ? b : a;
+    }
+
+    private int lowerBound(String target) {
+      int lo = 0;
+      int hi = keys.length;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (keys[mid].compareTo(target) < 0) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo;
+    }
+  }
+}
@@ -5,6 +5,7 @@ import com.jobproj.api.section.skill.SkillDto.ResumeSkillResponse;
 import com.jobproj.api.section.skill.SkillDto.ResumeSkillUpsert;
 import com.jobproj.api.section.skill.SkillDto.SkillCreate;
 import com.jobproj.api.section.skill.SkillDto.SkillResponse;
+import com.jobproj.api.section.skill.SkillDto.SkillSuggestion;
 import com.jobproj.api.section.skill.SkillDto.SkillUpdate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -40,6 +41,17 @@ public class SkillController {
     return ApiResponse.ok(svc.search(q, Math.min(Math.max(1, limit), 100)));
   }
 
+  @GetMapping("/skills/autocomplete")
+  @Operation(
+      summary = "스킬 자동완성",
+      description = "접두어 일치(대소문자/자모/초성 무시), 이력서 사용 수 순. DB 조회 없이 메모리 색인에서 응답",
+      tags = {"섹션"})
+  public ApiResponse<List<SkillSuggestion>> autocomplete(
+      @RequestParam(required = false) String q, @RequestParam(defaultValue = "10") int limit) {
+    return ApiResponse.ok(
+        svc.autocomplete(q, Math.min(Math.max(1, limit), SkillAutocomplete.MAX_LIMIT)));
+  }
+
   @GetMapping("/skills/{id}")
   @Operation(
       summary = "스킬 조회",
@@ -16,4 +16,7 @@ public class SkillDto {
 
   public record ResumeSkillResponse(
       Long resumeId, Long skillId, String name, Integer proficiency) {}
+
+  // 자동완성: 스킬 + 사용 중인 이력서 수(인기도)
+  public record SkillSuggestion(Long skillId, String name, long resumeCount) {}
 }
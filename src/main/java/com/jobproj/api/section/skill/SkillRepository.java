@@ -1,5 +1,6 @@
 package com.jobproj.api.section.skill;
 
+import com.jobproj.api.resume.ResumeVersions;
 import com.jobproj.api.section.skill.SkillDto.*;
 import java.sql.ResultSet;
 import java.util.*;
@@ -55,6 +56,23 @@ public class SkillRepository {
     return jdbc.query(sql, ps, this::mapSkill);
   }
 
+  // 자동완성 색인용 전체 스킬 + 이력서 사용 수
+  public List<SkillSuggestion> listSkillPopularity() {
+    var sql =
+        """
+      SELECT s.skill_id, s.skill_name, COUNT(rs.resume_id) AS resume_count
+      FROM jobproject_skill s
+      LEFT JOIN jobproject_resume_skill rs ON rs.skill_id=s.skill_id
+      GROUP BY s.skill_id, s.skill_name
+    """;
+    return jdbc.query(
+        sql,
+        Map.of(),
+        (rs, i) ->
+            new SkillSuggestion(
+                rs.getLong("skill_id"), rs.getString("skill_name"), rs.getLong("resume_count")));
+  }
+
   public Optional<SkillResponse> getSkill(long id) {
     var list =
         jdbc.query(
@@ -62,13 +80,16 @@ public class SkillRepository {
     return list.stream().findFirst();
   }
 
+  // 스킬 이름 변경/삭제는 그 스킬을 쓰는 이력서 모두의 내용 변경
   public int updateSkill(long id, SkillUpdate r) {
+    ResumeVersions.bumpOwnerOf(jdbc, "jobproject_resume_skill", "skill_id", id);
     return jdbc.update(
         "UPDATE jobproject_skill SET skill_name=:n WHERE skill_id=:id",
         new MapSqlParameterSource().addValue("n", r.name()).addValue("id", id));
   }
 
   public int deleteSkill(long id) {
+    ResumeVersions.bumpOwnerOf(jdbc, "jobproject_resume_skill", "skill_id", id);
     return jdbc.update("DELETE FROM jobproject_skill WHERE skill_id=:id", Map.of("id", id));
   }
 
@@ -80,6 +101,7 @@ public class SkillRepository {
       VALUES (:rid,:sid,:p)
       ON DUPLICATE KEY UPDATE proficiency=VALUES(proficiency)
     """;
+    ResumeVersions.bump(jdbc, resumeId);
     return jdbc.update(
         sql,
         new MapSqlParameterSource()
@@ -100,7 +122,22 @@ public class SkillRepository {
     return jdbc.query(sql, Map.of("rid", resumeId), this::mapResumeSkill);
   }
 
+  // 여러 이력서의 스킬을 한 번에 (이력서 상세 조회용)
+  public List<ResumeSkillResponse> listResumeSkillsByResumeIds(Collection<Long> resumeIds) {
+    if (resumeIds.isEmpty()) return List.of();
+    var sql =
+        """
+      SELECT rs.resume_id, s.skill_id, s.skill_name, rs.proficiency
+      FROM jobproject_resume_skill rs
+      JOIN jobproject_skill s ON s.skill_id=rs.skill_id
+      WHERE rs.resume_id IN (:rids)
+      ORDER BY rs.resume_id, rs.proficiency DESC, s.skill_name ASC
+    """;
+    return jdbc.query(sql, Map.of("rids", resumeIds), this::mapResumeSkill);
+  }
+
   public int deleteResumeSkill(long resumeId, long skillId) {
+    ResumeVersions.bump(jdbc, resumeId);
     return jdbc.update(
         """
       DELETE FROM jobproject_resume_skill
@@ -1,48 +1,80 @@
 package com.jobproj.api.section.skill;
 
+import com.jobproj.api.resume.ResumeChangedEvent;
 import com.jobproj.api.section.skill.SkillDto.*;
 import java.util.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class SkillService {
   private final SkillRepository repo;
+  private final SkillAutocomplete autocomplete;
+  private final ApplicationEventPublisher events;
 
-  public SkillService(SkillRepository repo) {
+  public SkillService(
+      SkillRepository repo, SkillAutocomplete autocomplete, ApplicationEventPublisher events) {
     this.repo = repo;
+    this.autocomplete = autocomplete;
+    this.events = events;
   }
 
-  // master
+  // master (변경 시 자동완성 색인 재구성, 이름이 바뀌면 스킬을 쓰는 모든 이력서가 바뀐 것으로 봄)
+  // 색인이 변경분을 바로 읽어야 하므로 트랜잭션으로 묶지 않음 (버전은 먼저 올리므로 놓치지 않음)
   public long create(SkillCreate r) {
-    return repo.createSkill(r);
+    long id = repo.createSkill(r);
+    autocomplete.refresh();
+    return id;
   }
 
   public List<SkillResponse> search(String q, int limit) {
     return repo.searchSkills(q, limit);
   }
 
+  public List<SkillSuggestion> autocomplete(String q, int limit) {
+    return autocomplete.suggest(q, limit);
+  }
+
   public Optional<SkillResponse> get(long id) {
     return repo.getSkill(id);
   }
 
   public boolean update(long id, SkillUpdate r) {
-    return repo.updateSkill(id, r) > 0;
+    boolean updated = repo.updateSkill(id, r) > 0;
+    if (updated) {
+      autocomplete.refresh();
+      events.publishEvent(ResumeChangedEvent.all());
+    }
+    return updated;
   }
 
   public boolean delete(long id) {
-    return repo.deleteSkill(id) > 0;
+    boolean deleted = repo.deleteSkill(id) > 0;
+    if (deleted) {
+      autocomplete.refresh();
+      events.publishEvent(ResumeChangedEvent.all());
+    }
+    return deleted;
   }
 
   // mapping
+  @Transactional
   public boolean upsert(long resumeId, long skillId, int prof) {
-    return repo.upsertResumeSkill(resumeId, skillId, prof) > 0;
+    return changed(resumeId, repo.upsertResumeSkill(resumeId, skillId, prof) > 0);
   }
 
   public List<ResumeSkillResponse> listByResume(long resumeId) {
     return repo.listResumeSkills(resumeId);
   }
 
+  @Transactional
   public boolean remove(long resumeId, long skillId) {
-    return repo.deleteResumeSkill(resumeId, skillId) > 0;
+    return changed(resumeId, repo.deleteResumeSkill(resumeId, skillId) > 0);
+  }
+
+  private boolean changed(long resumeId, boolean changed) {
+    if (changed) events.publishEvent(ResumeChangedEvent.of(resumeId));
+    return changed;
   }
 }
@@ -0,0 +1,5 @@
+-- 이력서 버전 (변경 감지 / ETag)
+-- 이력서 본문, 섹션(학력/경력/프로젝트), 스킬 매핑, 첨부가 바뀔 때마다 같은 트랜잭션에서 +1
+
+ALTER TABLE jobproject_resume
+ADD COLUMN resume_version BIGINT NOT NULL DEFAULT 0 COMMENT '변경 시마다 증가하는 버전';
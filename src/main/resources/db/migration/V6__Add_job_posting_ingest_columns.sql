@@ -0,0 +1,15 @@
+-- 잡코리아 수집 공고 저장 (JobsService.refreshCatalog -> JobPostingRepo.upsertAll)
+--  - GI_No 기준 UNIQUE 키로 ON DUPLICATE KEY UPDATE 업서트
+--  - 수집 공고는 jobproject_company 행이 없으므로 company_id NULL 허용, 회사명은 별도 컬럼에 보관
+--  - 마감일(GI_End_Date)은 job_posting_closed_at 에 저장, 지난 공고는 is_active=0 으로 비활성화
+
+ALTER TABLE jobproject_job_posting
+  MODIFY COLUMN company_id BIGINT NULL,
+  ADD COLUMN job_posting_gi_no         BIGINT        NULL AFTER company_id,
+  ADD COLUMN job_posting_company_name  VARCHAR(200)  NULL AFTER job_posting_title,
+  ADD COLUMN job_posting_salary_min    INT           NULL AFTER job_posting_location,
+  ADD COLUMN job_posting_salary_max    INT           NULL AFTER job_posting_salary_min,
+  ADD COLUMN job_posting_tags          VARCHAR(500)  NULL AFTER job_posting_salary_max,
+  ADD COLUMN job_posting_source_url    VARCHAR(500)  NULL AFTER job_posting_tags,
+  ADD UNIQUE KEY `uq_posting_gi_no` (`job_posting_gi_no`),
+  ADD KEY `ix_posting_active_closed` (`job_posting_is_active`, `job_posting_closed_at`);
@@ -0,0 +1,6 @@
+-- /job-postings/active/scroll 키셋 페이지네이션용 인덱스
+--  - WHERE job_posting_is_active=1 ORDER BY job_posting_created_at DESC, job_posting_id DESC
+--    를 인덱스 순서 그대로 읽고 커서 위치부터 LIMIT 건만 스캔 (OFFSET 처럼 앞 페이지를 건너뛰며 읽지 않음)
+
+ALTER TABLE jobproject_job_posting
+  ADD KEY `ix_posting_active_created` (`job_posting_is_active`, `job_posting_created_at`, `job_posting_id`);
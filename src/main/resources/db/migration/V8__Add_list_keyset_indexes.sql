@@ -0,0 +1,12 @@
+-- 이력서/학력 목록 커서(키셋) 페이지네이션용 인덱스
+--  - (조건 컬럼, 정렬 컬럼) 순서라 WHERE users_id = ? ORDER BY 정렬 컬럼, id 를 인덱스 순서대로 읽음
+--  - InnoDB 보조 인덱스 끝에는 PK(id) 가 붙으므로 동률 정렬용 id 는 따로 넣지 않음
+
+ALTER TABLE jobproject_resume
+  ADD KEY `ix_resume_users_created` (`users_id`, `resume_created_at`),
+  ADD KEY `ix_resume_users_updated` (`users_id`, `resume_updated_at`),
+  ADD KEY `ix_resume_users_title` (`users_id`, `title`);
+
+ALTER TABLE jobproject_education
+  ADD KEY `ix_edu_resume_created` (`resume_id`, `education_created_at`),
+  ADD KEY `ix_edu_resume_updated` (`resume_id`, `education_updated_at`);
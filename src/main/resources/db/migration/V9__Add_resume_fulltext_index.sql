@@ -0,0 +1,16 @@
+-- 이력서 키워드 검색용 FULLTEXT 인덱스 (ResumeRepository.search / count / searchAfter)
+--  - ngram 파서: 띄어쓰기 없는 한국어도 n글자 단위로 색인 (기본 ngram_token_size = 2)
+--  - '%kw%' LIKE 처럼 사용자 이력서 전체를 훑지 않고 인덱스에서 후보를 찾음
+--  - 토큰 크기보다 짧은 검색어(1글자)는 애플리케이션에서 LIKE 로 처리
+--  - 불용어 목록 없이 생성: ngram 파서는 불용어를 "포함한" 토큰을 모두 버리는데
+--    기본 InnoDB 불용어에 "a", "i" 같은 한 글자가 있어 "java" 의 모든 2-gram(ja/av/va)이 빠짐
+--    (불용어 설정은 인덱스를 만들 때 적용되므로 이 세션에서만 끄고 생성 후 되돌림)
+--    확인: SELECT ... WHERE MATCH(title, summary) AGAINST ('"java"' IN BOOLEAN MODE) 가 LIKE '%java%' 와 같은 행을 반환
+
+SET @saved_ft_enable_stopword = @@SESSION.innodb_ft_enable_stopword;
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE jobproject_resume
+  ADD FULLTEXT INDEX `ft_resume_title_summary` (`title`, `summary`) WITH PARSER ngram;
+
+SET SESSION innodb_ft_enable_stopword = @saved_ft_enable_stopword;
@@ -0,0 +1,144 @@
+package com.jobproj.api.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JobKoreaXmlParser - 잡코리아 응답 형식 샘플(src/test/resources/jobkorea/gi-list.xml) 기준 필드 매핑 확인
+ */
+class JobKoreaXmlParserTest {
+
+    private static final String FIXTURE = "/jobkorea/gi-list.xml";
+
+    @Test
+    void mapsRecordedPostingFields() throws Exception {
+        List<JobDto> jobs = parseFixture(0);
+
+        assertThat(jobs).hasSize(3);
+        JobDto job = jobs.get(0);
+        assertThat(job.getId()).isEqualTo("JK-46012345");
+        assertThat(job.getGiNo()).isEqualTo(46012345L);
+        assertThat(job.getTitle()).isEqualTo("[잡코리아] Spring 백엔드 개발자 (경력 3년↑)");
+        assertThat(job.getCompany()).isEqualTo("잡코리아");
+        assertThat(job.getLocation()).isEqualTo("서울 강남구, 경기 성남시");
+        assertThat(job.getSource()).isEqualTo("JOBKOREA");
+        assertThat(job.getApplyUrl()).isEqualTo("https://www.jobkorea.co.kr/Recruit/GI_Read/46012345");
+        assertThat(job.getSourceUrl()).isEqualTo(job.getApplyUrl());
+
+        // 연봉 범위 "4500,7000" -> 최소/최대
+        assertThat(job.getPayTerm()).isEqualTo("4500,7000");
+        assertThat(job.getSalaryMin()).isEqualTo(4500);
+        assertThat(job.getSalaryMax()).isEqualTo(7000);
+        assertThat(job.getPay()).isEqualTo(2);
+
+        // 쉼표 구분 값 분리 (공백 제거)
+        assertThat(job.getAreaCodes()).containsExactly("I010", "B150");
+        assertThat(job.getJobTypes()).containsExactly(1, 4);
+        assertThat(job.getTags()).containsExactly("Spring", "JPA", "AWS");
+        assertThat(job.getPartNo()).isEqualTo("10031");
+
+        // 경력 연차 -> 레벨, 등록일 yyyyMMdd -> 자정
+        assertThat(job.getCareer()).isEqualTo(3);
+        assertThat(job.getExperience()).isEqualTo(ExperienceLevel.MID);
+        assertThat(job.getPostedAt()).isEqualTo(LocalDateTime.of(2025, 11, 3, 0, 0));
+        assertThat(job.getWDate()).isEqualTo("20251103");
+        assertThat(job.getEDate()).isEqualTo("20251105");
+        assertThat(job.getEndDate()).isEqualTo("20251203");
+    }
+
+    @Test
+    void blankAndMalformedFieldsBecomeEmpty() throws Exception {
+        JobDto job = parseFixture(0).get(1);
+
+        assertThat(job.getPayTerm()).isNull();
+        assertThat(job.getSalaryMin()).isNull();
+        assertThat(job.getSalaryMax()).isNull();
+        assertThat(job.getTags()).isEmpty();
+        assertThat(job.getEDate()).isNull();
+        assertThat(job.getAreaCodes()).containsExactly("K040");
+        assertThat(job.getExperience()).isEqualTo(ExperienceLevel.ENTRY);
+        // yyyyMMdd 가 아닌 등록일은 원문만 보존
+        assertThat(job.getWDate()).isEqualTo("2025-11-03");
+        assertThat(job.getPostedAt()).isNull();
+    }
+
+    @Test
+    void singlePayValueIsMinimumOnly() throws Exception {
+        JobDto job = parseFixture(0).get(2);
+
+        assertThat(job.getSalaryMin()).isEqualTo(8000);
+        assertThat(job.getSalaryMax()).isNull();
+        assertThat(job.getJobTypes()).containsExactly(2);
+        assertThat(job.getExperience()).isEqualTo(ExperienceLevel.LEAD);
+    }
+
+    @Test
+    void stopsAtLimit() throws Exception {
+        List<JobDto> jobs = new ArrayList<>();
+        int count;
+        try (InputStream in = fixture()) {
+            count = JobKoreaXmlParser.parse(in, 2, jobs::add);
+        }
+
+        assertThat(count).isEqualTo(2);
+        assertThat(jobs).hasSize(2);
+        assertThat(jobs.get(1).getGiNo()).isEqualTo(46012346L);
+    }
+
+    @Test
+    void countsAllWithoutLimit() throws Exception {
+        List<JobDto> jobs = new ArrayList<>();
+        int count;
+        try (InputStream in = fixture()) {
+            count = JobKoreaXmlParser.parse(in, 0, jobs::add);
+        }
+
+        assertThat(count).isEqualTo(3);
+        assertThat(jobs).hasSize(3);
+    }
+
+    @Test
+    void rejectsExternalEntity() {
+        String xxe = """
+            <?xml version="1.0"?>
+            <!DOCTYPE GI_List [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+            <GI_List><Items><Item>
+              <GI_No>1</GI_No>
+              <GI_Subject>&xxe;</GI_Subject>
+            </Item></Items></GI_List>
+            """;
+        List<JobDto> jobs = new ArrayList<>();
+
+        // DTD 를 지원하지 않으므로 선언된 엔티티도 해석하지 않고 파싱 실패 (파일 내용이 공고로 새지 않음)
+        assertThatThrownBy(() -> JobKoreaXmlParser.parse(
+            new ByteArrayInputStream(xxe.getBytes(StandardCharsets.UTF_8)), 0, jobs::add))
+            .isInstanceOf(XMLStreamException.class);
+        assertThat(jobs).noneMatch(j -> j.getTitle() != null && j.getTitle().contains("root:"));
+    }
+
+    private static List<JobDto> parseFixture(int limit) throws Exception {
+        List<JobDto> jobs = new ArrayList<>();
+        try (InputStream in = fixture()) {
+            JobKoreaXmlParser.parse(in, limit, jobs::add);
+        }
+        return jobs;
+    }
+
+    private static InputStream fixture() {
+        InputStream in = JobKoreaXmlParserTest.class.getResourceAsStream(FIXTURE);
+        if (in == null) {
+            throw new IllegalStateException("fixture not found: " + FIXTURE);
+        }
+        return in;
+    }
+}
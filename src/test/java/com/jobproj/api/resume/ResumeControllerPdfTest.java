@@ -0,0 +1,158 @@
+package com.jobproj.api.resume;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.jobproj.api.resume.ResumePdfService.RenderedPdf;
+import com.jobproj.api.security.CurrentUser;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * GET /api/resumes/{id}/pdf 비동기 응답의 파일 채널 정리 확인 (렌더링/버전 조회는 스텁)
+ * - 렌더링보다 비동기 요청 타임아웃이 먼저 오면 렌더링이 끝나는 즉시 닫힘
+ * - 응답은 넘겼지만 본문이 실행되지 않으면 unsent-timeout 뒤에 닫힘
+ * - 본문이 실행되면 PDF 를 끝까지 쓰고 닫힘
+ */
+class ResumeControllerPdfTest {
+
+    private static final long USER = 7L;
+    private static final long RESUME = 1L;
+    private static final long UNSENT_TIMEOUT_MS = 50;
+    private static final String PDF = "%PDF resume=1";
+
+    @TempDir Path dir;
+
+    private final CompletableFuture<Optional<RenderedPdf>> render = new CompletableFuture<>();
+    private final ResumeController controller = new ResumeController(
+        new StubResumeService(), null, new StubPdfService(render), null, new StubCurrentUser(),
+        UNSENT_TIMEOUT_MS);
+
+    @Test
+    void timeoutBeforeRenderCompletesClosesChannel() throws Exception {
+        DeferredResult<ResponseEntity<StreamingResponseBody>> result = controller.exportPdf(RESUME, 1, null);
+
+        // 비동기 요청 타임아웃 (WebAsyncManager 가 오류 결과를 먼저 채움)
+        assertThat(result.setErrorResult(new AsyncRequestTimeoutException())).isTrue();
+        FileChannel channel = completeRender();
+
+        assertThat(channel.isOpen()).isFalse();
+        assertThat(result.getResult()).isInstanceOf(AsyncRequestTimeoutException.class);
+    }
+
+    @Test
+    void bodyThatNeverRunsIsClosedAfterUnsentTimeout() throws Exception {
+        DeferredResult<ResponseEntity<StreamingResponseBody>> result = controller.exportPdf(RESUME, 1, null);
+        FileChannel channel = completeRender();
+
+        // 응답은 넘어갔지만 본문은 실행되지 않음
+        assertThat(result.hasResult()).isTrue();
+        assertThat(channel.isOpen()).isTrue();
+        awaitClosed(channel);
+
+        // 정리된 뒤에 본문이 실행되면 실패 (빈 PDF 를 보내지 않음)
+        StreamingResponseBody body = body(result);
+        assertThatThrownBy(() -> body.writeTo(new ByteArrayOutputStream())).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void bodyWritesWholePdfAndCloses() throws Exception {
+        DeferredResult<ResponseEntity<StreamingResponseBody>> result = controller.exportPdf(RESUME, 1, null);
+        FileChannel channel = completeRender();
+
+        ResponseEntity<StreamingResponseBody> response = response(result);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(PDF);
+        assertThat(channel.isOpen()).isFalse();
+        // 예약된 정리는 이미 쓴 본문에 영향 없음
+        Thread.sleep(UNSENT_TIMEOUT_MS * 2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(PDF);
+    }
+
+    private FileChannel completeRender() throws IOException {
+        Path file = dir.resolve("r1-t1-v1.pdf");
+        Files.writeString(file, PDF);
+        FileChannel channel = FileChannel.open(file);
+        render.complete(Optional.of(RenderedPdf.of(channel)));
+        return channel;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ResponseEntity<StreamingResponseBody> response(
+        DeferredResult<ResponseEntity<StreamingResponseBody>> result
+    ) {
+        return (ResponseEntity<StreamingResponseBody>) result.getResult();
+    }
+
+    private static StreamingResponseBody body(DeferredResult<ResponseEntity<StreamingResponseBody>> result) {
+        return response(result).getBody();
+    }
+
+    private static void awaitClosed(FileChannel channel) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (channel.isOpen()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("channel was not closed");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class StubCurrentUser extends CurrentUser {
+
+        StubCurrentUser() {
+            super(null);
+        }
+
+        @Override
+        public Long id() {
+            return USER;
+        }
+    }
+
+    private static final class StubResumeService extends ResumeService {
+
+        StubResumeService() {
+            super(null, null);
+        }
+
+        @Override
+        public Optional<Long> version(Long id, Long usersId) {
+            return Optional.of(1L);
+        }
+    }
+
+    private static final class StubPdfService extends ResumePdfService {
+
+        private final CompletableFuture<Optional<RenderedPdf>> render;
+
+        StubPdfService(CompletableFuture<Optional<RenderedPdf>> render) {
+            super(null, null, null, null, false);
+            this.render = render;
+        }
+
+        @Override
+        public CompletableFuture<Optional<RenderedPdf>> getOrRender(
+            Long resumeId, Long usersId, int templateIndex, long version
+        ) {
+            return render;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.jobproj.api.resume;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.jobproj.api.resume.ResumePdfService.RenderedPdf;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 디스크 캐시에서 스트리밍하는 PDF 응답 확인
+ * - 응답으로 나간 바이트 수 = 캐시 파일 크기 = Content-Length(RenderedPdf.size)
+ * - 다 쓰거나 쓰다 실패하거나 버리면(discard) 파일 채널이 닫힘
+ */
+class ResumePdfCacheTest {
+
+  // transferTo 가 여러 번 돌도록 기본 버퍼보다 큰 크기
+  private static final byte[] PDF = randomBytes(300_000);
+
+  @TempDir Path dir;
+
+  @Test
+  void streamedSizeMatchesCachedFile() throws IOException {
+    ResumePdfCache cache = newCache(1 << 20);
+
+    RenderedPdf pdf = RenderedPdf.of(cache.store(1L, 2, 3L, out -> write(out)).orElseThrow());
+    Path cached = dir.resolve("r1-t2-v3.pdf");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    pdf.writeTo(out);
+
+    assertThat(Files.size(cached)).isEqualTo((long) PDF.length);
+    assertThat(pdf.size()).isEqualTo(Files.size(cached));
+    assertThat((long) out.size()).isEqualTo(pdf.size());
+    assertThat(Arrays.equals(out.toByteArray(), PDF)).isTrue();
+    assertThat(pdf.channel().isOpen()).isFalse();
+  }
+
+  @Test
+  void cacheHitStreamsWholeFileAndCloses() throws IOException {
+    ResumePdfCache cache = newCache(1 << 20);
+    cache.store(1L, 1, 1L, out -> write(out)).orElseThrow().close();
+
+    RenderedPdf pdf = RenderedPdf.of(cache.open(1L, 1, 1L).orElseThrow());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    pdf.writeTo(out);
+
+    assertThat(pdf.size()).isEqualTo((long) PDF.length);
+    assertThat((long) out.size()).isEqualTo(pdf.size());
+    assertThat(pdf.channel().isOpen()).isFalse();
+  }
+
+  @Test
+  void oversizedPdfStreamsFromUnlinkedTempFile() throws IOException {
+    // 캐시 한도보다 큰 PDF 는 캐시에 남기지 않고 임시 파일 채널로만 보냄
+    ResumePdfCache cache = newCache(1024);
+
+    RenderedPdf pdf = RenderedPdf.of(cache.store(1L, 1, 1L, out -> write(out)).orElseThrow());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    pdf.writeTo(out);
+
+    assertThat((long) out.size()).isEqualTo(pdf.size());
+    assertThat(pdf.size()).isEqualTo((long) PDF.length);
+    assertThat(pdf.channel().isOpen()).isFalse();
+    assertThat(files()).isEmpty();
+  }
+
+  @Test
+  void channelIsClosedWhenWriteFails() throws IOException {
+    ResumePdfCache cache = newCache(1 << 20);
+    RenderedPdf pdf = RenderedPdf.of(cache.store(1L, 1, 1L, out -> write(out)).orElseThrow());
+
+    // 클라이언트가 중간에 연결을 끊은 경우
+    OutputStream broken =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw new IOException("connection reset");
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) throws IOException {
+            throw new IOException("connection reset");
+          }
+        };
+
+    assertThatThrownBy(() -> pdf.writeTo(broken)).isInstanceOf(IOException.class);
+    assertThat(pdf.channel().isOpen()).isFalse();
+  }
+
+  @Test
+  void discardClosesUnsentPdf() throws IOException {
+    ResumePdfCache cache = newCache(1 << 20);
+    FileChannel channel = cache.store(1L, 1, 1L, out -> write(out)).orElseThrow();
+
+    RenderedPdf.of(channel).discard();
+
+    assertThat(channel.isOpen()).isFalse();
+    // 캐시 파일은 그대로 남아 다음 요청이 재사용
+    assertThat(files()).containsExactly(dir.resolve("r1-t1-v1.pdf"));
+  }
+
+  private ResumePdfCache newCache(long maxBytes) throws IOException {
+    ResumePdfCache cache = new ResumePdfCache(dir.toString(), maxBytes);
+    cache.init();
+    return cache;
+  }
+
+  private static boolean write(OutputStream out) throws IOException {
+    out.write(PDF);
+    return true;
+  }
+
+  private List<Path> files() throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.toList();
+    }
+  }
+
+  private static byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random(42).nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,355 @@
+package com.jobproj.api.resume;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.jobproj.api.common.TooManyRequestsException;
+import com.jobproj.api.resume.ResumePdfExportService.ExportItem;
+import com.jobproj.api.resume.ResumePdfExportService.ExportRequest;
+import com.jobproj.api.resume.ResumePdfExportService.ExportState;
+import com.jobproj.api.resume.ResumePdfExportService.ExportStatus;
+import com.jobproj.api.resume.ResumePdfService.RenderedPdf;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * PDF 일괄 내보내기 작업 확인 (렌더링/버전 조회는 스텁)
+ * - 렌더링은 window 개까지만 맡기고, 끝난 순서와 무관하게 요청 순서대로 ZIP 에 기록
+ * - 렌더링 대기열이 가득 차면(429) 기다렸다가 다시 맡김
+ * - 사용자당 진행 중 작업 수 제한, ttl 지난 작업/ZIP 삭제
+ * - 작업이 중단돼도 맡겨 둔 PDF 의 파일 채널은 모두 닫힘
+ */
+class ResumePdfExportServiceTest {
+
+  private static final long USER = 7L;
+  private static final long OTHER_USER = 8L;
+  // 렌더링에 실패하는(빈 결과) 이력서
+  private static final long BROKEN_RESUME = 99L;
+  private static final long WAIT_SECONDS = 5;
+
+  @TempDir Path dir;
+
+  private final StubPdfService pdfService = new StubPdfService();
+  private ResumePdfExportService service;
+
+  @AfterEach
+  void tearDown() {
+    if (service != null) {
+      service.shutdown();
+    }
+  }
+
+  @Test
+  void writesEntriesInRequestOrderWithWindowInFlight() throws Exception {
+    newService(2, 2);
+
+    ExportStatus submitted = service.submit(USER, request(1, 2, 3, 4));
+    Render first = pdfService.next();
+    Render second = pdfService.next();
+    assertThat(first.resumeId()).isEqualTo(1L);
+    assertThat(second.resumeId()).isEqualTo(2L);
+
+    // 뒤의 것이 먼저 끝나도 맨 앞이 기록되기 전에는 다음 렌더링을 맡기지 않음
+    second.complete();
+    assertThat(pdfService.nextOrNull(200)).isNull();
+    first.complete();
+
+    Render third = pdfService.next();
+    Render fourth = pdfService.next();
+    assertThat(third.resumeId()).isEqualTo(3L);
+    assertThat(fourth.resumeId()).isEqualTo(4L);
+    fourth.complete();
+    third.complete();
+
+    ExportStatus done = awaitFinished(submitted.jobId());
+    assertThat(done.state()).isEqualTo(ExportState.DONE);
+    assertThat(done.completed()).isEqualTo(4);
+    assertThat(pdfService.maxInFlight.get()).isEqualTo(2);
+    assertThat(entryNames(submitted.jobId()))
+        .containsExactly(
+            "resume-1-t1.pdf", "resume-2-t1.pdf", "resume-3-t1.pdf", "resume-4-t1.pdf");
+    assertThat(pdfService.openChannels()).isEqualTo(0L);
+  }
+
+  @Test
+  void zipHoldsOneEntryPerDistinctItemAndSkipsFailedRenders() throws Exception {
+    newService(2, 2);
+    pdfService.autoComplete = true;
+
+    ExportRequest req =
+        new ExportRequest(
+            List.of(
+                new ExportItem(1L, null),
+                new ExportItem(2L, 3),
+                new ExportItem(1L, 1),
+                new ExportItem(BROKEN_RESUME, 2),
+                new ExportItem(3L, 9)));
+    ExportStatus submitted = service.submit(USER, req);
+    assertThat(submitted.total()).isEqualTo(4);
+
+    ExportStatus done = awaitFinished(submitted.jobId());
+    assertThat(done.state()).isEqualTo(ExportState.DONE);
+    assertThat(done.completed()).isEqualTo(3);
+    assertThat(done.failed()).isEqualTo(1);
+
+    List<String> names = new ArrayList<>();
+    List<String> contents = new ArrayList<>();
+    readZip(submitted.jobId(), names, contents);
+    // 템플릿이 없거나 범위 밖이면 1번
+    assertThat(names).containsExactly("resume-1-t1.pdf", "resume-2-t3.pdf", "resume-3-t1.pdf");
+    assertThat(contents).containsExactly(pdfText(1, 1), pdfText(2, 3), pdfText(3, 1));
+    assertThat(pdfService.openChannels()).isEqualTo(0L);
+  }
+
+  @Test
+  void retriesWhenRenderQueueIsFull() throws Exception {
+    newService(2, 2);
+    pdfService.autoComplete = true;
+    pdfService.rejections.set(2);
+
+    ExportStatus submitted = service.submit(USER, request(1, 2));
+
+    ExportStatus done = awaitFinished(submitted.jobId());
+    assertThat(done.state()).isEqualTo(ExportState.DONE);
+    assertThat(done.completed()).isEqualTo(2);
+    assertThat(done.failed()).isEqualTo(0);
+    // 거절된 2번 + 실제로 맡긴 2번
+    assertThat(pdfService.calls.get()).isEqualTo(4);
+    assertThat(entryNames(submitted.jobId()))
+        .containsExactly("resume-1-t1.pdf", "resume-2-t1.pdf");
+  }
+
+  @Test
+  void limitsActiveJobsPerUser() throws Exception {
+    newService(1, 2);
+
+    ExportStatus running = service.submit(USER, request(1));
+    Render render = pdfService.next();
+
+    assertThatThrownBy(() -> service.submit(USER, request(2)))
+        .isInstanceOf(TooManyRequestsException.class);
+    // 다른 사용자는 영향 없음 (작업 대기열에서 차례를 기다림)
+    ExportStatus other = service.submit(OTHER_USER, request(3));
+    assertThat(other.state()).isEqualTo(ExportState.QUEUED);
+
+    render.complete();
+    assertThat(awaitFinished(running.jobId()).state()).isEqualTo(ExportState.DONE);
+    pdfService.next().complete();
+    assertThat(awaitFinished(other.jobId(), OTHER_USER).state()).isEqualTo(ExportState.DONE);
+
+    // 끝난 작업은 한도에 들어가지 않음
+    pdfService.autoComplete = true;
+    ExportStatus again = service.submit(USER, request(2));
+    assertThat(awaitFinished(again.jobId()).state()).isEqualTo(ExportState.DONE);
+  }
+
+  @Test
+  void purgesFinishedJobsAfterTtl() throws Exception {
+    newService(2, 2);
+    pdfService.autoComplete = true;
+
+    ExportStatus submitted = service.submit(USER, request(1));
+    awaitFinished(submitted.jobId());
+    Path zip = dir.resolve("export").resolve(submitted.jobId() + ".zip");
+    assertThat(Files.exists(zip)).isTrue();
+
+    service.purgeExpired(LocalDateTime.now().plusMinutes(29));
+    assertThat(service.status(submitted.jobId(), USER)).isPresent();
+
+    service.purgeExpired(LocalDateTime.now().plusMinutes(31));
+    assertThat(service.status(submitted.jobId(), USER)).isEmpty();
+    assertThat(service.openZip(submitted.jobId(), USER)).isEmpty();
+    assertThat(Files.exists(zip)).isFalse();
+  }
+
+  @Test
+  void closesPendingPdfsWhenInterrupted() throws Exception {
+    newService(2, 2);
+
+    ExportStatus submitted = service.submit(USER, request(1, 2));
+    Render head = pdfService.next();
+    Render second = pdfService.next();
+    second.complete();
+
+    // 작업 스레드가 맨 앞 PDF 를 기다리는 중에 중단
+    service.shutdown();
+    assertThat(awaitFinished(submitted.jobId()).state()).isEqualTo(ExportState.FAILED);
+    service = null;
+
+    // 중단 뒤에 끝난 렌더링 결과도 닫힘
+    head.complete();
+    assertThat(pdfService.openChannels()).isEqualTo(0L);
+  }
+
+  private void newService(int maxActivePerUser, int window) throws IOException {
+    service =
+        new ResumePdfExportService(
+            new StubResumeService(),
+            pdfService,
+            dir.resolve("export").toString(),
+            100,
+            maxActivePerUser,
+            1,
+            8,
+            window,
+            30,
+            5);
+    service.init();
+  }
+
+  private static ExportRequest request(long... resumeIds) {
+    List<ExportItem> items = new ArrayList<>();
+    for (long resumeId : resumeIds) {
+      items.add(new ExportItem(resumeId, 1));
+    }
+    return new ExportRequest(items);
+  }
+
+  private ExportStatus awaitFinished(String jobId) throws InterruptedException {
+    return awaitFinished(jobId, USER);
+  }
+
+  private ExportStatus awaitFinished(String jobId, long usersId) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+    while (System.nanoTime() < deadline) {
+      ExportStatus status = service.status(jobId, usersId).orElseThrow();
+      if (status.state() == ExportState.DONE || status.state() == ExportState.FAILED) {
+        return status;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("export job did not finish: " + jobId);
+  }
+
+  private List<String> entryNames(String jobId) throws IOException {
+    List<String> names = new ArrayList<>();
+    readZip(jobId, names, new ArrayList<>());
+    return names;
+  }
+
+  private void readZip(String jobId, List<String> names, List<String> contents)
+      throws IOException {
+    FileChannel channel = service.openZip(jobId, USER).orElseThrow();
+    try (InputStream in = Channels.newInputStream(channel);
+        ZipInputStream zip = new ZipInputStream(in)) {
+      ZipEntry entry;
+      while ((entry = zip.getNextEntry()) != null) {
+        names.add(entry.getName());
+        contents.add(new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  private static String pdfText(long resumeId, int template) {
+    return "%PDF resume=" + resumeId + " template=" + template;
+  }
+
+  /** 모든 이력서가 있고 버전은 1 */
+  private static final class StubResumeService extends ResumeService {
+
+    StubResumeService() {
+      super(null, null);
+    }
+
+    @Override
+    public Optional<Long> version(Long id, Long usersId) {
+      return Optional.of(1L);
+    }
+  }
+
+  /** 맡긴 렌더링을 테스트가 직접 끝냄 (autoComplete 면 바로 끝남) */
+  private final class StubPdfService extends ResumePdfService {
+
+    final BlockingQueue<Render> requested = new LinkedBlockingQueue<>();
+    final AtomicInteger rejections = new AtomicInteger();
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final List<FileChannel> channels = new CopyOnWriteArrayList<>();
+    volatile boolean autoComplete;
+
+    StubPdfService() {
+      super(null, null, null, null, false);
+    }
+
+    @Override
+    public CompletableFuture<Optional<RenderedPdf>> getOrRender(
+        Long resumeId, Long usersId, int templateIndex, long version) {
+      calls.incrementAndGet();
+      if (rejections.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+        throw new TooManyRequestsException("pdf render queue is full", 5);
+      }
+      Render render = new Render(this, resumeId, templateIndex, new CompletableFuture<>());
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      if (autoComplete) {
+        render.complete();
+      } else {
+        requested.add(render);
+      }
+      return render.future();
+    }
+
+    Render next() throws InterruptedException {
+      Render render = nextOrNull(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+      if (render == null) {
+        throw new AssertionError("no render requested");
+      }
+      return render;
+    }
+
+    Render nextOrNull(long timeoutMs) throws InterruptedException {
+      return requested.poll(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    long openChannels() {
+      return channels.stream().filter(FileChannel::isOpen).count();
+    }
+
+    Optional<RenderedPdf> pdf(long resumeId, int template) {
+      if (resumeId == BROKEN_RESUME) {
+        return Optional.empty();
+      }
+      try {
+        Path file = dir.resolve("r" + resumeId + "-t" + template + "-" + channels.size() + ".pdf");
+        Files.writeString(file, pdfText(resumeId, template));
+        FileChannel channel = FileChannel.open(file);
+        channels.add(channel);
+        return Optional.of(RenderedPdf.of(channel));
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  private record Render(
+      StubPdfService owner,
+      long resumeId,
+      int template,
+      CompletableFuture<Optional<RenderedPdf>> future) {
+
+    void complete() {
+      owner.inFlight.decrementAndGet();
+      future.complete(owner.pdf(resumeId, template));
+    }
+  }
+}